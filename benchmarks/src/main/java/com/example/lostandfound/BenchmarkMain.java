@@ -0,0 +1,22 @@
+package com.example.lostandfound;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// BenchmarkMain
+// Entry point of benchmarks.jar: the regular JMH command line (e.g. "SearchBenchmarks
+// -p items=100000", "-l" to list) with the GC profiler always attached, so every result
+// reports the allocation rate (gc.alloc.rate, gc.alloc.rate.norm per operation) next to
+// throughput and average time.
+public class BenchmarkMain {
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+        int prof = jmhArgs.indexOf("-prof");
+        if (prof < 0 || prof + 1 >= jmhArgs.size() || !jmhArgs.get(prof + 1).startsWith("gc")) {
+            jmhArgs.add("-prof");
+            jmhArgs.add("gc");
+        }
+        org.openjdk.jmh.Main.main(jmhArgs.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.lostandfound;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// RecordBenchmarks
+// Per-item work on submission and load: parsing and writing text store lines, and the
+// qualification rules.
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx3g" })
+public class RecordBenchmarks {
+    private int cursor;
+
+    @Benchmark
+    public LostAndFoundSystem.Item fromLine(StoreState s) {
+        return LostAndFoundSystem.Item.fromLine(s.lines[cursor++ & StoreState.MASK]);
+    }
+
+    @Benchmark
+    public String toLine(StoreState s) {
+        return s.sample[cursor++ & StoreState.MASK].toLine();
+    }
+
+    @Benchmark
+    public QualificationResult qualifyItem(StoreState s) {
+        return LostAndFoundSystem.QUALIFIER.evaluate(s.sample[cursor++ & StoreState.MASK]);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.lostandfound;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// SearchBenchmarks
+// Lost-item searches against the whole store with the default settings: every lookup a
+// cache miss (scoring and rendering), and repeated queries answered by the cache.
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx3g" })
+public class SearchBenchmarks {
+    private final LostAndFoundSystem system = new LostAndFoundSystem();
+    private int cursor;
+
+    @Benchmark
+    public String guiSearchLostItem(StoreState s) {
+        String[] q = s.coldQueries[cursor++ % StoreState.COLD_QUERIES];
+        return system.guiSearchLostItem(q[0], q[1], q[2]);
+    }
+
+    @Benchmark
+    public String guiSearchLostItemCached(StoreState s) {
+        String[] q = s.warmQueries[cursor++ % StoreState.WARM_QUERIES];
+        return system.guiSearchLostItem(q[0], q[1], q[2]);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.lostandfound;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// StoreState
+// One populated store per benchmark fork (the store is static, so each trial runs in
+// its own JVM): items synthetic items loaded into LostAndFoundSystem without logging,
+// plus fixed samples the per-item benchmarks cycle through. Every sample holds SAMPLE
+// entries so the index can be masked instead of taken modulo.
+@State(Scope.Benchmark)
+public class StoreState {
+    static final int SAMPLE = 4096;
+    static final int MASK = SAMPLE - 1;
+    // distinct queries cycled by the uncached search; well above the search cache's 1024
+    // entries, so LRU order makes every lookup a miss
+    static final int COLD_QUERIES = 8 * 1024;
+    static final int WARM_QUERIES = 64;
+
+    @Param({ "1000", "100000", "1000000" })
+    public int items;
+
+    List<LostAndFoundSystem.Item> store;
+    LostAndFoundSystem.Item[] sample;
+    String[] texts; // name + description, as analyzed for indexing
+    String[] lines; // text store lines
+    int[][] itemTokens;
+    int[][] queryTokens;
+    String[][] coldQueries;
+    String[][] warmQueries;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        SyntheticItems generator = new SyntheticItems(42);
+        store = new ArrayList<>(items);
+        for (int i = 0; i < items; i++)
+            store.add(generator.next());
+        LostAndFoundSystem.loadItems(store);
+
+        sample = new LostAndFoundSystem.Item[SAMPLE];
+        texts = new String[SAMPLE];
+        lines = new String[SAMPLE];
+        itemTokens = new int[SAMPLE][];
+        for (int i = 0; i < SAMPLE; i++) {
+            LostAndFoundSystem.Item it = store.get((int) ((long) i * items / SAMPLE));
+            sample[i] = it;
+            texts[i] = it.getName() + " " + it.getDescription();
+            lines[i] = it.toLine();
+            itemTokens[i] = it.getTokenIds();
+        }
+
+        SyntheticItems queries = new SyntheticItems(7);
+        queryTokens = new int[SAMPLE][];
+        for (int i = 0; i < SAMPLE; i++) {
+            String[] q = queries.query();
+            queryTokens[i] = LostAndFoundSystem.queryTokenIds(q[0] + " " + q[1] + " " + q[2]);
+        }
+        coldQueries = distinctQueries(queries, COLD_QUERIES);
+        warmQueries = distinctQueries(queries, WARM_QUERIES);
+    }
+
+    // Queries with pairwise different analyzed terms (so different cache keys)
+    private static String[][] distinctQueries(SyntheticItems generator, int count) {
+        String[][] result = new String[count][];
+        Set<Set<String>> seen = new HashSet<>();
+        for (int n = 0; n < count;) {
+            String[] q = generator.query();
+            if (seen.add(new TreeSet<>(LostAndFoundSystem.preprocessToSet(q[0] + " " + q[1] + " " + q[2]))))
+                result[n++] = q;
+        }
+        return result;
+    }
+}
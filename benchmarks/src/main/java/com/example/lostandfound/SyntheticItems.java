@@ -0,0 +1,110 @@
+package com.example.lostandfound;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.UUID;
+
+// SyntheticItems
+// Deterministic found-item reports and lost-item queries shaped like real desk entries:
+// - per category: the objects, brands and typical values seen at a campus desk
+// - names like "Black Samsung phone", descriptions of 2-3 sentences mixing colour,
+//   material, condition, contents and where the item was picked up
+// - some items carry numbers (serials, locker numbers), so the vocabulary keeps growing
+//   with the store as it does with real data
+// Queries describe a random item the way an owner would: fewer words, partly different.
+final class SyntheticItems {
+    private static final String[] COLOURS = { "black", "white", "grey", "silver", "gold", "red", "dark blue",
+            "light blue", "green", "olive", "brown", "beige", "pink", "purple", "orange", "yellow", "navy" };
+    private static final String[] MATERIALS = { "leather", "fake leather", "canvas", "nylon", "plastic", "metal",
+            "fabric", "denim", "wool", "rubber" };
+    private static final String[][] OBJECTS = {
+            { "wallet", "purse", "card holder", "coin pouch", "money clip" },
+            { "backpack", "tote bag", "handbag", "laptop bag", "gym bag", "satchel", "drawstring bag" },
+            { "phone", "laptop", "tablet", "charger", "headphones", "earbuds", "power bank", "smartwatch",
+                    "calculator", "usb stick" },
+            { "passport", "student id card", "driver license", "notebook", "folder", "textbook", "lab journal" },
+            { "jacket", "hoodie", "scarf", "cap", "gloves", "sweater", "raincoat", "beanie" },
+            { "keys", "key ring", "car key", "keychain", "locker key", "bike lock key" },
+            { "umbrella", "glasses", "sunglasses", "ring", "watch", "bracelet", "pencil case", "water flask" } };
+    private static final String[][] BRANDS = {
+            { "Fossil", "Tommy Hilfiger", "Guess", "Michael Kors", "Ikea" },
+            { "Jansport", "Eastpak", "Herschel", "Nike", "Adidas", "North Face" },
+            { "Samsung", "Apple", "Xiaomi", "Vivo", "Oppo", "Dell", "Lenovo", "HP", "Sony", "JBL", "Anker",
+                    "Casio" },
+            { "Moleskine", "Oxford", "Pearson", "university" },
+            { "Uniqlo", "Zara", "H&M", "Nike", "Adidas", "Columbia" },
+            { "Toyota", "Honda", "Yamaha", "Master Lock", "Abus" },
+            { "Ray-Ban", "Swatch", "Casio", "Pandora", "Totes", "Stabilo" } };
+    private static final double[][] VALUE_RANGE = { { 20, 120 }, { 30, 200 }, { 40, 2000 }, { 10, 150 },
+            { 20, 180 }, { 10, 300 }, { 10, 250 } };
+    private static final String[] CONDITIONS = { "with a cracked screen", "with stickers on the back",
+            "with a broken zipper", "slightly scratched", "almost new", "worn at the corners", "with a torn strap",
+            "with initials engraved", "in a transparent case", "with a red lanyard attached",
+            "with a small keychain", "with a coffee stain", "missing one button", "with a name tag inside" };
+    private static final String[] CONTENTS = { "Contains two bank cards and some cash.",
+            "Has a student card inside.", "Several receipts and a library card inside.",
+            "Battery is empty, screen locked.", "A photo is tucked in the front pocket.",
+            "Lecture notes for calculus inside.", "Comes with a charging cable.",
+            "Three keys and a bottle opener on the ring.", "No identification found.",
+            "Owner's phone number written on a label.", "Found together with a blue pen." };
+    private static final String[] SPOTS = { "near the entrance", "under a desk", "on a bench", "in the restroom",
+            "next to the vending machine", "on the stairs", "by the printers", "in the back row",
+            "at the bus stop outside", "behind the reception counter" };
+    private static final String[] LOCATIONS = { "Main Library 2nd floor", "Main Library ground floor", "Cafeteria",
+            "Student Center", "Gym locker room", "Lecture Hall A", "Lecture Hall 4", "GEB-205", "STC-3F",
+            "Engineering Building lobby", "Parking lot B", "Science Lab 3", "Dormitory C common room",
+            "Computer Lab 1", "Auditorium" };
+
+    private final Random random;
+
+    SyntheticItems(long seed) {
+        this.random = new Random(seed);
+    }
+
+    LostAndFoundSystem.Item next() {
+        int c = random.nextInt(OBJECTS.length);
+        String object = pick(OBJECTS[c]);
+        String colour = pick(COLOURS);
+        String name = capitalize(colour) + " " + pick(BRANDS[c]) + " " + object;
+
+        StringBuilder desc = new StringBuilder();
+        desc.append(capitalize(colour)).append(' ').append(pick(MATERIALS)).append(' ').append(object).append(' ')
+                .append(pick(CONDITIONS)).append(". ");
+        if (random.nextInt(3) > 0)
+            desc.append(pick(CONTENTS)).append(' ');
+        if (random.nextInt(10) < 3)
+            desc.append(c == 2 ? "Serial number ends in " : "Number ").append(1000 + random.nextInt(9000))
+                    .append(". ");
+        desc.append("Found ").append(pick(SPOTS)).append('.');
+
+        double[] range = VALUE_RANGE[c];
+        double value = Math.round(range[0] + random.nextDouble() * (range[1] - range[0]));
+        String contact = random.nextBoolean() ? "desk" + random.nextInt(100) + "@campus.edu"
+                : "+1 555 " + (1000 + random.nextInt(9000));
+        LocalDate found = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(700));
+        return new LostAndFoundSystem.Item(new UUID(random.nextLong(), random.nextLong()).toString(), name,
+                desc.toString(), LostAndFoundSystem.CATEGORIES[c], found, pick(LOCATIONS), contact, value, false,
+                "ACTIVE", found.atTime(8 + random.nextInt(10), random.nextInt(60)).withSecond(random.nextInt(60)));
+    }
+
+    /**
+     * A lost-item report as {name, description, location}.
+     */
+    String[] query() {
+        int c = random.nextInt(OBJECTS.length);
+        String object = pick(OBJECTS[c]);
+        String name = pick(COLOURS) + " " + object;
+        String desc = random.nextBoolean() ? pick(MATERIALS) + " " + pick(CONDITIONS)
+                : pick(BRANDS[c]) + " " + object + " " + pick(SPOTS);
+        String loc = random.nextInt(4) == 0 ? pick(LOCATIONS) : "";
+        return new String[] { name, desc, loc };
+    }
+
+    private String pick(String[] options) {
+        return options[random.nextInt(options.length)];
+    }
+
+    private static String capitalize(String s) {
+        return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.lostandfound;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// TextBenchmarks
+// Text normalization and similarity on item texts and query token sets sampled from the
+// store (the token dictionary has the store's vocabulary).
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx3g" })
+public class TextBenchmarks {
+    private int cursor;
+
+    @Benchmark
+    public List<String> preprocessToSet(StoreState s) {
+        return LostAndFoundSystem.preprocessToSet(s.texts[cursor++ & StoreState.MASK]);
+    }
+
+    @Benchmark
+    public double jaccard(StoreState s) {
+        int i = cursor++;
+        return LostAndFoundSystem.jaccard(s.queryTokens[i & StoreState.MASK],
+                s.itemTokens[(i * 31) & StoreState.MASK]);
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.lostandfound;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+// Analyzer
+// Text -> distinct index terms. Items and queries go through the same instance, so
+// both sides always produce the same terms for the same words:
+// 1. tokenizer - one pass over the text: lowercases and cuts at anything that is not
+//                a-z or 0-9, writing each word into a reusable per-thread buffer
+// 2. filters   - each word is transformed in that buffer by the stages in order
+//                (stopwords, stemming, synonyms, ...); a stage may drop it
+// A String is created only for words that survive every stage. fingerprint() changes
+// whenever the stages do, so stored term ids can be recognized as outdated.
+class Analyzer {
+    /**
+     * One stage; works on the word in place.
+     */
+    interface Filter {
+        /**
+         * Transforms the word and returns false to drop it.
+         */
+        boolean apply(Term term);
+
+        /**
+         * Describes the stage's behaviour (feeds the analyzer fingerprint).
+         */
+        String signature();
+    }
+
+    // Mutable word buffer handed from stage to stage
+    static final class Term {
+        char[] chars = new char[32];
+        int length;
+
+        void append(char c) {
+            if (length == chars.length)
+                chars = Arrays.copyOf(chars, length * 2);
+            chars[length++] = c;
+        }
+
+        void set(String s) {
+            length = 0;
+            for (int i = 0; i < s.length(); i++)
+                append(s.charAt(i));
+        }
+
+        boolean endsWith(String suffix) {
+            int n = suffix.length();
+            if (n > length)
+                return false;
+            for (int i = 0; i < n; i++) {
+                if (chars[length - n + i] != suffix.charAt(i))
+                    return false;
+            }
+            return true;
+        }
+
+        boolean contentEquals(String s) {
+            if (s.length() != length)
+                return false;
+            for (int i = 0; i < length; i++) {
+                if (s.charAt(i) != chars[i])
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, 0, length);
+        }
+    }
+
+    private final List<Filter> filters;
+    private final int fingerprint;
+    private final ThreadLocal<Term> buffer = ThreadLocal.withInitial(Term::new);
+
+    Analyzer(List<Filter> filters) {
+        this.filters = new ArrayList<>(filters);
+        StringBuilder sig = new StringBuilder("lowercase-alnum-v1");
+        for (Filter f : filters)
+            sig.append('|').append(f.signature());
+        this.fingerprint = sig.toString().hashCode();
+    }
+
+    /**
+     * Lowercase alphanumeric words without the given stopwords, plural-stemmed, with
+     * each synonym group folded into its first word.
+     */
+    static Analyzer standard(Collection<String> stopwords, List<List<String>> synonymGroups) {
+        List<Filter> filters = new ArrayList<>();
+        filters.add(new StopFilter(stopwords));
+        filters.add(new PluralStemmer());
+        // synonyms are matched after stemming, so stem the configured words the same way
+        Analyzer stemmed = new Analyzer(filters);
+        Map<String, String> canonical = new HashMap<>();
+        for (List<String> group : synonymGroups) {
+            String target = stemmed.single(group.get(0));
+            for (String word : group) {
+                String term = stemmed.single(word);
+                if (term != null && target != null && !term.equals(target))
+                    canonical.put(term, target);
+            }
+        }
+        filters.add(new SynonymFilter(canonical));
+        return new Analyzer(filters);
+    }
+
+    /**
+     * Distinct terms of the text, in first-seen order.
+     */
+    List<String> analyze(String text) {
+        if (text == null || text.isEmpty())
+            return Collections.emptyList();
+        List<String> terms = new ArrayList<>();
+        Term term = buffer.get();
+        term.length = 0;
+        int n = text.length();
+        for (int i = 0; i <= n; i++) {
+            char c = i < n ? Character.toLowerCase(text.charAt(i)) : ' ';
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                term.append(c);
+            } else if (term.length > 0) {
+                emit(term, terms);
+                term.length = 0;
+            }
+        }
+        return terms;
+    }
+
+    int fingerprint() {
+        return fingerprint;
+    }
+
+    private void emit(Term term, List<String> terms) {
+        for (Filter f : filters) {
+            if (!f.apply(term) || term.length == 0)
+                return;
+        }
+        // terms per text are few, a linear check beats hashing
+        for (String t : terms) {
+            if (term.contentEquals(t))
+                return;
+        }
+        terms.add(term.toString());
+    }
+
+    // The word as a single term, or null if it is dropped / splits into several
+    private String single(String word) {
+        List<String> t = analyze(word);
+        return t.size() == 1 ? t.get(0) : null;
+    }
+
+    // Open-addressing String -> V table probed with the term buffer directly, so lookups
+    // create no String
+    static final class TermMap<V> {
+        private final String[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        TermMap(Map<String, V> source) {
+            int cap = Integer.highestOneBit(Math.max(4, source.size() * 2 - 1)) << 1;
+            keys = new String[cap];
+            values = new Object[cap];
+            mask = cap - 1;
+            for (Map.Entry<String, V> e : source.entrySet()) {
+                String k = e.getKey();
+                int i = hash(k) & mask;
+                while (keys[i] != null && !keys[i].equals(k))
+                    i = (i + 1) & mask;
+                keys[i] = k;
+                values[i] = e.getValue();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        V get(Term t) {
+            int h = 0;
+            for (int i = 0; i < t.length; i++)
+                h = 31 * h + t.chars[i];
+            for (int i = spread(h) & mask; keys[i] != null; i = (i + 1) & mask) {
+                if (t.contentEquals(keys[i]))
+                    return (V) values[i];
+            }
+            return null;
+        }
+
+        private static int hash(String s) {
+            return spread(s.hashCode());
+        }
+
+        private static int spread(int h) {
+            return h ^ (h >>> 16);
+        }
+    }
+
+    static final class StopFilter implements Filter {
+        private final TermMap<Boolean> stopwords;
+        private final String signature;
+
+        StopFilter(Collection<String> words) {
+            Map<String, Boolean> m = new HashMap<>();
+            for (String w : words)
+                m.put(w, Boolean.TRUE);
+            stopwords = new TermMap<>(m);
+            signature = "stop" + new TreeSet<>(words);
+        }
+
+        @Override
+        public boolean apply(Term term) {
+            return stopwords.get(term) == null;
+        }
+
+        @Override
+        public String signature() {
+            return signature;
+        }
+    }
+
+    // Light English plural stemmer ("stickers" -> "sticker", "batteries" -> "battery",
+    // "boxes" -> "box"); words with digits and words of 3 letters or less are kept as is
+    static final class PluralStemmer implements Filter {
+        @Override
+        public boolean apply(Term t) {
+            if (t.length <= 3 || t.chars[t.length - 1] != 's')
+                return true;
+            for (int i = 0; i < t.length; i++) {
+                if (t.chars[i] < 'a')
+                    return true; // digit
+            }
+            if (t.endsWith("ss") || t.endsWith("us") || t.endsWith("is"))
+                return true;
+            if (t.length > 4 && t.endsWith("ies")) {
+                t.length -= 2;
+                t.chars[t.length - 1] = 'y';
+            } else if (t.endsWith("sses") || t.endsWith("xes") || t.endsWith("ches") || t.endsWith("shes")
+                    || t.endsWith("zzes")) {
+                t.length -= 2;
+            } else {
+                t.length -= 1;
+            }
+            return true;
+        }
+
+        @Override
+        public String signature() {
+            return "plural-v1";
+        }
+    }
+
+    static final class SynonymFilter implements Filter {
+        private final TermMap<String> canonical;
+        private final String signature;
+
+        SynonymFilter(Map<String, String> canonical) {
+            this.canonical = new TermMap<>(canonical);
+            this.signature = "synonyms" + new TreeMap<>(canonical);
+        }
+
+        @Override
+        public boolean apply(Term term) {
+            String target = canonical.get(term);
+            if (target != null)
+                term.set(target);
+            return true;
+        }
+
+        @Override
+        public String signature() {
+            return signature;
+        }
+    }
+}
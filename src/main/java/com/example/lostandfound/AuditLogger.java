@@ -0,0 +1,215 @@
+package com.example.lostandfound;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// AuditLogger
+// Asynchronous audit log. Callers only enqueue (never block, never touch the disk);
+// a single writer thread keeps the file open, drains the queue in batches and flushes
+// once a batch reaches the size limit or the oldest unflushed entry reaches the delay
+// limit. If the queue is full the entry is counted as dropped and a marker line is
+// written once there is room again.
+class AuditLogger {
+    private static final Entry STOP = new Entry(null, null, null, null);
+
+    private final Path file;
+    private final BlockingQueue<Entry> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile int flushEveryEntries;
+    private volatile long flushDelayMillis;
+
+    private Thread writerThread;
+    private volatile boolean running = false;
+    private boolean exitHookRegistered = false;
+
+    AuditLogger(Path file, int capacity, int flushEveryEntries, long flushDelayMillis) {
+        this.file = file;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.flushEveryEntries = flushEveryEntries;
+        this.flushDelayMillis = flushDelayMillis;
+    }
+
+    void setFlushPolicy(int everyEntries, long delayMillis) {
+        if (everyEntries > 0)
+            flushEveryEntries = everyEntries;
+        if (delayMillis > 0)
+            flushDelayMillis = delayMillis;
+    }
+
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Enqueues one entry; the timestamp is taken now, formatting happens on the writer.
+     */
+    void log(String action, String message) {
+        ensureStarted();
+        if (!queue.offer(new Entry(LocalDateTime.now(), action, message, null)))
+            dropped.incrementAndGet();
+    }
+
+    /**
+     * Enqueues several entries with the same action and timestamp as one queue item;
+     * they are written together, one line each.
+     */
+    void logAll(String action, List<String> messages) {
+        if (messages.isEmpty())
+            return;
+        ensureStarted();
+        if (!queue.offer(new Entry(LocalDateTime.now(), action, null, new ArrayList<>(messages))))
+            dropped.addAndGet(messages.size());
+    }
+
+    /**
+     * Writes everything still queued, flushes and stops the writer (exit path).
+     */
+    void close() {
+        Thread t;
+        synchronized (this) {
+            if (!running)
+                return;
+            running = false;
+            t = writerThread;
+            writerThread = null;
+        }
+        queue.offer(STOP); // wakes the writer early; if full it is busy anyway
+        try {
+            t.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void ensureStarted() {
+        if (running)
+            return;
+        synchronized (this) {
+            if (running)
+                return;
+            running = true;
+            writerThread = new Thread(this::writeLoop, "audit-writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+            if (!exitHookRegistered) {
+                Runtime.getRuntime().addShutdownHook(new Thread(this::close, "audit-writer-exit"));
+                exitHookRegistered = true;
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>();
+        StringBuilder sb = new StringBuilder(256);
+        BufferedWriter w = null;
+        int unflushed = 0;
+        long oldestUnflushed = 0;
+        while (running || !queue.isEmpty()) {
+            try {
+                long wait = unflushed == 0 ? flushDelayMillis
+                        : Math.max(0, oldestUnflushed + flushDelayMillis - System.currentTimeMillis());
+                Entry first = queue.poll(wait, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, Math.max(0, flushEveryEntries - 1));
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+
+            try {
+                if (w == null && (!batch.isEmpty() || dropped.get() > 0))
+                    w = Files.newBufferedWriter(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                long lost = dropped.getAndSet(0);
+                if (lost > 0) {
+                    w.write(format(sb, LocalDateTime.now(), "LOG-DROPPED", lost + " entries"));
+                    w.newLine();
+                    unflushed++;
+                }
+                for (Entry e : batch) {
+                    if (e == STOP)
+                        continue;
+                    if (unflushed == 0)
+                        oldestUnflushed = System.currentTimeMillis();
+                    for (String message : e.messages()) {
+                        w.write(format(sb, e.time, e.action, message));
+                        w.newLine();
+                        unflushed++;
+                    }
+                }
+                if (unflushed > 0 && (unflushed >= flushEveryEntries || !running
+                        || System.currentTimeMillis() - oldestUnflushed >= flushDelayMillis)) {
+                    w.flush();
+                    unflushed = 0;
+                }
+            } catch (IOException ex) {
+                // fallback to stdout, reopen on the next batch
+                for (Entry e : batch) {
+                    if (e == STOP)
+                        continue;
+                    for (String message : e.messages())
+                        System.out.println("LOG-ERR: " + format(sb, e.time, e.action, message));
+                }
+                w = closeQuietly(w);
+                unflushed = 0;
+            }
+            batch.clear();
+        }
+        try {
+            if (w != null)
+                w.flush();
+        } catch (IOException e) {
+            System.err.println("Error flushing audit log: " + e.getMessage());
+        }
+        closeQuietly(w);
+    }
+
+    private static String format(StringBuilder sb, LocalDateTime time, String action, String message) {
+        sb.setLength(0);
+        sb.append(time.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)).append(' ')
+                .append(action).append(" | ").append(message);
+        return sb.toString();
+    }
+
+    private static BufferedWriter closeQuietly(BufferedWriter w) {
+        if (w != null) {
+            try {
+                w.close();
+            } catch (IOException ignored) {
+                // nothing left to do
+            }
+        }
+        return null;
+    }
+
+    // One line, or a batch of lines (logAll) sharing time and action
+    private static class Entry {
+        final LocalDateTime time;
+        final String action;
+        final String message;
+        final List<String> batch;
+
+        Entry(LocalDateTime time, String action, String message, List<String> batch) {
+            this.time = time;
+            this.action = action;
+            this.message = message;
+            this.batch = batch;
+        }
+
+        List<String> messages() {
+            return batch != null ? batch : Collections.singletonList(message);
+        }
+    }
+}
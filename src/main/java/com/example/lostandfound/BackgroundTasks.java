@@ -0,0 +1,105 @@
+package com.example.lostandfound;
+
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.concurrent.Task;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// BackgroundTasks
+// Runs LostAndFoundSystem calls off the JavaFX application thread:
+// 1. work runs in a javafx.concurrent.Task on a background thread
+// 2. the result (or error) is handed to the callback on the FX thread, so callbacks
+//    may touch controls directly
+// Tasks started with runLatest under the same key replace each other: the older task is
+// cancelled and its result is never delivered (stale searches). busyProperty() is true
+// while any task is pending. Call run/runLatest from the FX thread only.
+class BackgroundTasks {
+    private final ExecutorService executor = newExecutor();
+    private final IntegerProperty pending = new SimpleIntegerProperty(0);
+    private final BooleanBinding busy = pending.greaterThan(0);
+    private final Map<String, Task<?>> latest = new HashMap<>(); // FX thread only
+
+    BooleanBinding busyProperty() {
+        return busy;
+    }
+
+    <T> Task<T> run(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        return start(null, work, onSuccess, onFailure);
+    }
+
+    /**
+     * Like run, but first cancels the pending task started with the same key.
+     */
+    <T> Task<T> runLatest(String key, Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        return start(key, work, onSuccess, onFailure);
+    }
+
+    /**
+     * Accepts no new tasks; running ones finish (a store write is never interrupted),
+     * but their results are no longer delivered once the FX thread has stopped.
+     */
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> Task<T> start(String key, Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+        if (key != null) {
+            Task<?> previous = latest.put(key, task);
+            if (previous != null)
+                previous.cancel(true);
+        }
+        task.setOnSucceeded(e -> {
+            // a replaced task may finish before its cancel lands; drop its result
+            if (finish(key, task))
+                onSuccess.accept(task.getValue());
+        });
+        task.setOnFailed(e -> {
+            if (finish(key, task))
+                onFailure.accept(task.getException());
+        });
+        task.setOnCancelled(e -> finish(key, task));
+        pending.set(pending.get() + 1);
+        executor.execute(task);
+        return task;
+    }
+
+    // Returns false if the task was replaced by a newer one with the same key
+    private boolean finish(String key, Task<?> task) {
+        pending.set(pending.get() - 1);
+        if (key == null)
+            return true;
+        if (latest.get(key) != task)
+            return false;
+        latest.remove(key);
+        return true;
+    }
+
+    // Virtual threads when running on Java 21+ (looked up reflectively, the code base
+    // targets 17); otherwise a cached pool of daemon threads
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "ui-worker-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+}
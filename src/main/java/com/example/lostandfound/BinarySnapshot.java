@@ -0,0 +1,334 @@
+package com.example.lostandfound;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+// BinarySnapshot
+// Versioned, column-oriented snapshot of the item store, read through a MappedByteBuffer.
+// Layout (big-endian):
+//   header   magic, version, item count, token count, analyzer fingerprint (since
+//            version 2), then the start of each section
+//   columns  dateFound (epoch day), createdAt (UTC seconds + nanos), value, perishable,
+//            status code -- fixed width, one entry per item
+//   strings  per text field an int[count + 1] offset table into the string pool
+//   tokens   int[count + 1] offsets into the token id column, then the ids; ids refer to
+//            the dictionary section so loading never re-tokenizes descriptions (unless
+//            the analyzer that produced them has changed)
+//   pool     UTF-8 bytes of all text fields and dictionary words
+// Fixed-width fields are read eagerly; text fields are decoded only when first used.
+class BinarySnapshot {
+    static final int MAGIC = 0x4C464231; // "LFB1"
+    static final int VERSION = 2;
+
+    // text fields (string offset tables)
+    static final int F_ID = 0;
+    static final int F_NAME = 1;
+    static final int F_DESCRIPTION = 2;
+    static final int F_CATEGORY = 3;
+    static final int F_LOCATION = 4;
+    static final int F_CONTACT = 5;
+    static final int F_STATUS = 6; // only set when the status has no fixed code
+    static final int TEXT_FIELDS = 7;
+
+    static final byte STATUS_ACTIVE = 0;
+    static final byte STATUS_REMOVED = 1;
+    static final byte STATUS_OTHER = 2;
+
+    // section indexes in the header
+    private static final int S_DATE_FOUND = 0;
+    private static final int S_CREATED_SECONDS = 1;
+    private static final int S_CREATED_NANOS = 2;
+    private static final int S_VALUE = 3;
+    private static final int S_PERISHABLE = 4;
+    private static final int S_STATUS = 5;
+    private static final int S_TEXT_OFFSETS = 6;
+    private static final int S_TOKEN_OFFSETS = 7;
+    private static final int S_TOKEN_IDS = 8;
+    private static final int S_DICTIONARY_OFFSETS = 9;
+    private static final int S_POOL = 10;
+    private static final int SECTIONS = 11;
+    private static final int HEADER_BYTES = 20 + SECTIONS * 8;
+    private static final int V1_HEADER_BYTES = 16 + SECTIONS * 8; // no analyzer fingerprint
+
+    static Reader open(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() > Integer.MAX_VALUE)
+                throw new IOException("Snapshot larger than 2 GB");
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            return new Reader(buf);
+        }
+    }
+
+    static byte statusCode(String status) {
+        if ("ACTIVE".equals(status))
+            return STATUS_ACTIVE;
+        if ("REMOVED".equals(status))
+            return STATUS_REMOVED;
+        return STATUS_OTHER;
+    }
+
+    static void write(Path file, List<LostAndFoundSystem.Item> rows, TokenDictionary dictionary, int analyzer)
+            throws IOException {
+        int count = rows.size();
+        int tokenCount = dictionary.size();
+
+        // text lengths first so every offset table can be written before the pool
+        long[] sections = new long[SECTIONS];
+        long pos = HEADER_BYTES;
+        sections[S_DATE_FOUND] = pos;
+        pos += 4L * count;
+        sections[S_CREATED_SECONDS] = pos;
+        pos += 8L * count;
+        sections[S_CREATED_NANOS] = pos;
+        pos += 4L * count;
+        sections[S_VALUE] = pos;
+        pos += 8L * count;
+        sections[S_PERISHABLE] = pos;
+        pos += count;
+        sections[S_STATUS] = pos;
+        pos += count;
+        sections[S_TEXT_OFFSETS] = pos;
+        pos += 4L * (count + 1) * TEXT_FIELDS;
+        sections[S_TOKEN_OFFSETS] = pos;
+        pos += 4L * (count + 1);
+        long totalTokens = 0;
+        for (LostAndFoundSystem.Item r : rows)
+            totalTokens += r.getTokenIds().length;
+        sections[S_TOKEN_IDS] = pos;
+        pos += 4L * totalTokens;
+        sections[S_DICTIONARY_OFFSETS] = pos;
+        pos += 4L * (tokenCount + 1);
+        sections[S_POOL] = pos;
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING),
+                1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(count);
+            out.writeInt(tokenCount);
+            out.writeInt(analyzer);
+            for (long s : sections)
+                out.writeLong(s);
+
+            for (LostAndFoundSystem.Item r : rows)
+                out.writeInt((int) r.dateFound.toEpochDay());
+            for (LostAndFoundSystem.Item r : rows)
+                out.writeLong(r.createdAt.toEpochSecond(ZoneOffset.UTC));
+            for (LostAndFoundSystem.Item r : rows)
+                out.writeInt(r.createdAt.getNano());
+            for (LostAndFoundSystem.Item r : rows)
+                out.writeDouble(r.estimatedValue);
+            for (LostAndFoundSystem.Item r : rows)
+                out.writeByte(r.perishable ? 1 : 0);
+            for (LostAndFoundSystem.Item r : rows)
+                out.writeByte(statusCode(r.status));
+
+            long poolOffset = 0;
+            for (int f = 0; f < TEXT_FIELDS; f++) {
+                for (LostAndFoundSystem.Item r : rows) {
+                    out.writeInt(checkedOffset(poolOffset));
+                    poolOffset += textLength(r, f);
+                }
+                out.writeInt(checkedOffset(poolOffset));
+            }
+
+            int tokenOffset = 0;
+            for (LostAndFoundSystem.Item r : rows) {
+                out.writeInt(tokenOffset);
+                tokenOffset += r.getTokenIds().length;
+            }
+            out.writeInt(tokenOffset);
+            for (LostAndFoundSystem.Item r : rows) {
+                for (int id : r.getTokenIds())
+                    out.writeInt(id);
+            }
+
+            byte[][] words = new byte[tokenCount][];
+            for (int t = 0; t < tokenCount; t++) {
+                words[t] = dictionary.token(t).getBytes(StandardCharsets.UTF_8);
+                out.writeInt(checkedOffset(poolOffset));
+                poolOffset += words[t].length;
+            }
+            out.writeInt(checkedOffset(poolOffset));
+
+            byte[] scratch = new byte[256];
+            for (int f = 0; f < TEXT_FIELDS; f++) {
+                for (LostAndFoundSystem.Item r : rows) {
+                    String s = textOf(r, f);
+                    if (s != null) {
+                        out.write(s.getBytes(StandardCharsets.UTF_8));
+                    } else {
+                        int len = r.snapshot.textLength(r.snapshotRow, f);
+                        if (scratch.length < len)
+                            scratch = new byte[len];
+                        r.snapshot.copyText(r.snapshotRow, f, scratch);
+                        out.write(scratch, 0, len);
+                    }
+                }
+            }
+            for (byte[] w : words)
+                out.write(w);
+        }
+    }
+
+    // String for a field, or null when it can be copied raw from the snapshot the
+    // item was loaded from (saves decoding and re-encoding untouched rows)
+    private static String textOf(LostAndFoundSystem.Item r, int field) {
+        switch (field) {
+            case F_ID:
+                return r.id;
+            case F_STATUS:
+                return statusCode(r.status) == STATUS_OTHER ? r.status : "";
+            default:
+                String s = r.loadedText(field);
+                if (s == null && r.snapshot == null)
+                    return "";
+                return s;
+        }
+    }
+
+    private static int textLength(LostAndFoundSystem.Item r, int field) {
+        String s = textOf(r, field);
+        return s != null ? utf8Length(s) : r.snapshot.textLength(r.snapshotRow, field);
+    }
+
+    private static int utf8Length(String s) {
+        int len = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                len++;
+            } else if (c < 0x800) {
+                len += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                len += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                len++; // unpaired surrogate, encoded as '?'
+            } else {
+                len += 3;
+            }
+        }
+        return len;
+    }
+
+    private static int checkedOffset(long offset) throws IOException {
+        if (offset > Integer.MAX_VALUE)
+            throw new IOException("Snapshot string pool larger than 2 GB");
+        return (int) offset;
+    }
+
+    // Read-only view over a mapped snapshot; absolute reads only, so it is thread-safe
+    static final class Reader {
+        private final ByteBuffer buf;
+        final int count;
+        final int tokenCount;
+        final int analyzer; // fingerprint of the analyzer behind the token ids; 0 if unknown
+        private final long[] sections = new long[SECTIONS];
+
+        private Reader(ByteBuffer buf) throws IOException {
+            this.buf = buf;
+            if (buf.capacity() < V1_HEADER_BYTES || buf.getInt(0) != MAGIC)
+                throw new IOException("Not an item snapshot");
+            int version = buf.getInt(4);
+            if (version != VERSION && version != 1)
+                throw new IOException("Unsupported snapshot version " + version);
+            count = buf.getInt(8);
+            tokenCount = buf.getInt(12);
+            analyzer = version == 1 ? 0 : buf.getInt(16);
+            int sectionTable = version == 1 ? 16 : 20;
+            for (int s = 0; s < SECTIONS; s++)
+                sections[s] = buf.getLong(sectionTable + s * 8);
+        }
+
+        LocalDate dateFound(int row) {
+            return LocalDate.ofEpochDay(buf.getInt(at(S_DATE_FOUND, 4L * row)));
+        }
+
+        LocalDateTime createdAt(int row) {
+            return LocalDateTime.ofEpochSecond(buf.getLong(at(S_CREATED_SECONDS, 8L * row)),
+                    buf.getInt(at(S_CREATED_NANOS, 4L * row)), ZoneOffset.UTC);
+        }
+
+        double estimatedValue(int row) {
+            return buf.getDouble(at(S_VALUE, 8L * row));
+        }
+
+        boolean perishable(int row) {
+            return buf.get(at(S_PERISHABLE, row)) != 0;
+        }
+
+        String status(int row) {
+            switch (buf.get(at(S_STATUS, row))) {
+                case STATUS_ACTIVE:
+                    return "ACTIVE";
+                case STATUS_REMOVED:
+                    return "REMOVED";
+                default:
+                    return text(row, F_STATUS);
+            }
+        }
+
+        String text(int row, int field) {
+            int start = textStart(row, field);
+            int len = textLength(row, field);
+            byte[] bytes = new byte[len];
+            buf.get(poolAt(start), bytes, 0, len);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int textLength(int row, int field) {
+            return textStart(row + 1, field) - textStart(row, field);
+        }
+
+        void copyText(int row, int field, byte[] dst) {
+            buf.get(poolAt(textStart(row, field)), dst, 0, textLength(row, field));
+        }
+
+        /**
+         * Token ids of a row, in this snapshot's dictionary numbering.
+         */
+        int[] tokenIds(int row) {
+            int from = buf.getInt(at(S_TOKEN_OFFSETS, 4L * row));
+            int to = buf.getInt(at(S_TOKEN_OFFSETS, 4L * (row + 1)));
+            int[] ids = new int[to - from];
+            for (int i = 0; i < ids.length; i++)
+                ids[i] = buf.getInt(at(S_TOKEN_IDS, 4L * (from + i)));
+            return ids;
+        }
+
+        String token(int id) {
+            int start = buf.getInt(at(S_DICTIONARY_OFFSETS, 4L * id));
+            int end = buf.getInt(at(S_DICTIONARY_OFFSETS, 4L * (id + 1)));
+            byte[] bytes = new byte[end - start];
+            buf.get(poolAt(start), bytes, 0, bytes.length);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private int textStart(int row, int field) {
+            return buf.getInt(at(S_TEXT_OFFSETS, 4L * ((long) field * (count + 1) + row)));
+        }
+
+        private int poolAt(int offset) {
+            return (int) (sections[S_POOL] + offset);
+        }
+
+        private int at(int section, long delta) {
+            return (int) (sections[section] + delta);
+        }
+    }
+}
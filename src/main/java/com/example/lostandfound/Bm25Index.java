@@ -0,0 +1,212 @@
+package com.example.lostandfound;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Bm25Index
+// Statistics for ranking candidates with field-weighted BM25 (BM25F), kept up to date at
+// index time so scoring a candidate is one merge over sorted token ids, like Jaccard:
+// - per item (by ordinal): its token ids (name, description and location), the fields
+//   each token occurs in, and its weighted length (sum of the tokens' field weights)
+// - per token: the number of items containing it (document frequency, for IDF)
+// - per collection: item count and average length. These change with every mutation
+//   but barely move the scores, so readers use a published copy that is refreshed only
+//   once the live values drift by DRIFT; add/remove report when that happened (cached
+//   results depending on the old values must then be dropped)
+// A token's weight in an item is the sum of the weights of the fields containing it;
+// scores are divided by the best a query could reach, so they fall in [0, 1].
+// Reads are lock-free; add and remove must be called by a single writer.
+class Bm25Index {
+    static final int NAME = 1, DESCRIPTION = 2, LOCATION = 4; // field bits
+
+    private static final double K1 = 1.2; // term frequency saturation
+    private static final double B = 0.75; // length normalization
+    private static final double DRIFT = 0.05;
+
+    // One indexed item; tokens sorted, fields[i] holds the field bits of tokens[i]
+    private static final class Doc {
+        final int[] tokens;
+        final byte[] fields;
+        final double length;
+
+        Doc(int[] tokens, byte[] fields, double length) {
+            this.tokens = tokens;
+            this.fields = fields;
+            this.length = length;
+        }
+    }
+
+    private static final class CollectionStats {
+        final int docs;
+        final double averageLength;
+
+        CollectionStats(int docs, double averageLength) {
+            this.docs = docs;
+            this.averageLength = averageLength;
+        }
+    }
+
+    private final double[] fieldWeight = new double[8]; // field bits -> token weight
+    private volatile AtomicReferenceArray<Doc> docs = new AtomicReferenceArray<>(1024);
+    // token id -> items containing it; writes happen before the token's cache version moves
+    private volatile int[] documentFrequency = new int[1024];
+    private volatile CollectionStats published = new CollectionStats(0, 1.0);
+    private int liveDocs; // writer only
+    private double liveLength;
+
+    Bm25Index(double nameWeight, double descriptionWeight, double locationWeight) {
+        for (int bits = 1; bits < 8; bits++) {
+            fieldWeight[bits] = ((bits & NAME) != 0 ? nameWeight : 0) + ((bits & DESCRIPTION) != 0 ? descriptionWeight : 0)
+                    + ((bits & LOCATION) != 0 ? locationWeight : 0);
+        }
+    }
+
+    /**
+     * Indexes an item from the sorted token ids of its fields; returns whether the
+     * published collection statistics changed.
+     */
+    boolean add(int ordinal, int[] name, int[] description, int[] location) {
+        int[] tokens = new int[name.length + description.length + location.length];
+        byte[] fields = new byte[tokens.length];
+        int n = 0;
+        int i = 0, j = 0, k = 0;
+        while (i < name.length || j < description.length || k < location.length) {
+            int t = Math.min(i < name.length ? name[i] : Integer.MAX_VALUE,
+                    Math.min(j < description.length ? description[j] : Integer.MAX_VALUE,
+                            k < location.length ? location[k] : Integer.MAX_VALUE));
+            int bits = 0;
+            if (i < name.length && name[i] == t) {
+                bits |= NAME;
+                i++;
+            }
+            if (j < description.length && description[j] == t) {
+                bits |= DESCRIPTION;
+                j++;
+            }
+            if (k < location.length && location[k] == t) {
+                bits |= LOCATION;
+                k++;
+            }
+            tokens[n] = t;
+            fields[n++] = (byte) bits;
+        }
+        double length = 0;
+        int[] df = frequencies(n > 0 ? tokens[n - 1] : 0);
+        for (int x = 0; x < n; x++) {
+            length += fieldWeight[fields[x]];
+            df[tokens[x]]++;
+        }
+        AtomicReferenceArray<Doc> table = docs;
+        if (ordinal >= table.length()) {
+            AtomicReferenceArray<Doc> grown = new AtomicReferenceArray<>(Math.max(ordinal + 1, table.length() * 2));
+            for (int o = 0; o < table.length(); o++)
+                grown.set(o, table.get(o));
+            docs = table = grown;
+        }
+        table.set(ordinal, new Doc(Arrays.copyOf(tokens, n), Arrays.copyOf(fields, n), length));
+        liveDocs++;
+        liveLength += length;
+        return publishIfDrifted();
+    }
+
+    /**
+     * Drops an item; returns whether the published collection statistics changed.
+     */
+    boolean remove(int ordinal) {
+        AtomicReferenceArray<Doc> table = docs;
+        Doc d = ordinal < table.length() ? table.get(ordinal) : null;
+        if (d == null)
+            return false;
+        table.set(ordinal, null);
+        int[] df = documentFrequency;
+        for (int t : d.tokens)
+            df[t]--;
+        liveDocs--;
+        liveLength -= d.length;
+        return publishIfDrifted();
+    }
+
+    /**
+     * All token ids of an indexed item (name, description and location), sorted; empty
+     * if the item is not indexed.
+     */
+    int[] tokens(int ordinal) {
+        Doc d = doc(ordinal);
+        return d != null ? d.tokens : new int[0];
+    }
+
+    /**
+     * Inverse document frequency of each token (unknown tokens, negative ids, count as
+     * contained in no item).
+     */
+    double[] idf(int[] tokenIds) {
+        CollectionStats c = published;
+        int[] df = documentFrequency;
+        double[] idf = new double[tokenIds.length];
+        for (int i = 0; i < idf.length; i++) {
+            int t = tokenIds[i];
+            int f = t >= 0 && t < df.length ? df[t] : 0;
+            int n = Math.max(c.docs, f);
+            idf[i] = Math.log(1.0 + (n - f + 0.5) / (f + 0.5));
+        }
+        return idf;
+    }
+
+    /**
+     * Writes each query token's contribution to the item's score into contributions
+     * (0 where the item lacks the token): its coefficient (idf times any query weight)
+     * times the token's saturated, length-normalized field weight. queryTokens must be
+     * sorted. Returns false if the item is not indexed.
+     */
+    boolean contributions(int ordinal, int[] queryTokens, double[] coefficients, double[] contributions) {
+        Arrays.fill(contributions, 0, queryTokens.length, 0.0);
+        Doc d = doc(ordinal);
+        if (d == null)
+            return false;
+        double norm = K1 * (1 - B + B * d.length / published.averageLength);
+        int i = 0, j = 0;
+        while (i < queryTokens.length && j < d.tokens.length) {
+            if (queryTokens[i] < d.tokens[j]) {
+                i++;
+            } else if (queryTokens[i] > d.tokens[j]) {
+                j++;
+            } else {
+                double tf = fieldWeight[d.fields[j]];
+                contributions[i] = coefficients[i] * tf * (K1 + 1) / (tf + norm);
+                i++;
+                j++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Best score a token with this idf can add (a token's saturated frequency stays
+     * below K1 + 1).
+     */
+    static double maxContribution(double idf) {
+        return idf * (K1 + 1);
+    }
+
+    private Doc doc(int ordinal) {
+        AtomicReferenceArray<Doc> table = docs;
+        return ordinal >= 0 && ordinal < table.length() ? table.get(ordinal) : null;
+    }
+
+    private int[] frequencies(int maxToken) {
+        int[] df = documentFrequency;
+        if (maxToken >= df.length)
+            documentFrequency = df = Arrays.copyOf(df, Math.max(maxToken + 1, df.length * 2));
+        return df;
+    }
+
+    private boolean publishIfDrifted() {
+        CollectionStats c = published;
+        double average = liveDocs > 0 ? liveLength / liveDocs : 1.0;
+        if (Math.abs(liveDocs - c.docs) <= DRIFT * c.docs
+                && Math.abs(average - c.averageLength) <= DRIFT * c.averageLength)
+            return false;
+        published = new CollectionStats(liveDocs, average);
+        return true;
+    }
+}
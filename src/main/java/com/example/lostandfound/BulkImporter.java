@@ -0,0 +1,384 @@
+package com.example.lostandfound;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// BulkImporter
+// Imports found items from a CSV file (header row) or a JSONL file (one flat object
+// per line) as a pipeline:
+// 1. parse   - rows are streamed from the file in batches of BATCH_ROWS
+// 2. qualify - a batch is turned into items and qualified in parallel on a ForkJoinPool
+//              while the next batch is parsed
+// 3. report  - one line per row (ACCEPTED id, REJECTED rule or MALFORMED reason) is
+//              written to the report file as each batch completes
+// 4. commit  - the accepted items are handed to the committer once, at the end
+// At most two batches of rows are held at a time; besides that only the accepted items
+// are kept (they join the store anyway), so memory does not grow with rejected rows.
+class BulkImporter {
+    static final int BATCH_ROWS = 4096;
+
+    // column / key name (lowercase, letters and digits only) -> field
+    private static final Map<String, String> FIELD_ALIASES = new HashMap<>();
+    static {
+        for (String f : new String[] { "name", "description", "category", "location", "datefound",
+                "estimatedvalue", "perishable", "contact" })
+            FIELD_ALIASES.put(f, f);
+        FIELD_ALIASES.put("date", "datefound");
+        FIELD_ALIASES.put("value", "estimatedvalue");
+    }
+
+    static final class Result {
+        final Path reportFile;
+        final int rows;
+        final int accepted;
+        final int rejected;
+        final int malformed;
+        final long parseNanos;
+        final long qualifyNanos; // summed over batches; overlaps with parsing
+        final long commitNanos;
+        final long totalNanos;
+
+        Result(Path reportFile, int rows, int accepted, int rejected, int malformed, long parseNanos,
+                long qualifyNanos, long commitNanos, long totalNanos) {
+            this.reportFile = reportFile;
+            this.rows = rows;
+            this.accepted = accepted;
+            this.rejected = rejected;
+            this.malformed = malformed;
+            this.parseNanos = parseNanos;
+            this.qualifyNanos = qualifyNanos;
+            this.commitNanos = commitNanos;
+            this.totalNanos = totalNanos;
+        }
+
+        double rowsPerSecond() {
+            return totalNanos == 0 ? 0 : rows * 1e9 / totalNanos;
+        }
+
+        String render() {
+            return String.format("Imported %d rows: %d accepted, %d rejected, %d malformed%n"
+                    + "Time %.2f s (parse %.2f s, qualify %.2f s, commit %.2f s), %.0f rows/s%n"
+                    + "Per-row report: %s%n",
+                    rows, accepted, rejected, malformed, totalNanos / 1e9, parseNanos / 1e9, qualifyNanos / 1e9,
+                    commitNanos / 1e9, rowsPerSecond(), reportFile);
+        }
+    }
+
+    private final QualificationEngine qualifier;
+    private final ForkJoinPool pool;
+    private final Consumer<List<LostAndFoundSystem.Item>> committer;
+
+    /**
+     * @param committer stores the accepted items; called once per import
+     */
+    BulkImporter(QualificationEngine qualifier, ForkJoinPool pool,
+            Consumer<List<LostAndFoundSystem.Item>> committer) {
+        this.qualifier = qualifier;
+        this.pool = pool;
+        this.committer = committer;
+    }
+
+    /**
+     * Imports a .csv or .jsonl file and writes the per-row report. Nothing is stored if
+     * reading the file fails part way.
+     */
+    Result importFile(Path input, Path reportFile) throws IOException {
+        long start = System.nanoTime();
+        List<LostAndFoundSystem.Item> accepted = new ArrayList<>();
+        int rows = 0, rejected = 0, malformed = 0;
+        long parseNanos = 0;
+        AtomicLong qualifyNanos = new AtomicLong();
+        try (RowReader reader = open(input); BufferedWriter report = Files.newBufferedWriter(reportFile)) {
+            report.write("row,result,id,detail");
+            report.newLine();
+            long t = System.nanoTime();
+            List<Row> batch = reader.next(BATCH_ROWS);
+            parseNanos += System.nanoTime() - t;
+            while (!batch.isEmpty()) {
+                List<Row> current = batch;
+                ForkJoinTask<Outcome[]> qualifying = pool.submit(() -> {
+                    long q = System.nanoTime();
+                    Outcome[] outcomes = new Outcome[current.size()];
+                    IntStream.range(0, outcomes.length).parallel()
+                            .forEach(i -> outcomes[i] = qualify(current.get(i)));
+                    qualifyNanos.addAndGet(System.nanoTime() - q);
+                    return outcomes;
+                });
+                t = System.nanoTime();
+                batch = reader.next(BATCH_ROWS);
+                parseNanos += System.nanoTime() - t;
+
+                Outcome[] outcomes = qualifying.join();
+                for (int i = 0; i < outcomes.length; i++) {
+                    Outcome o = outcomes[i];
+                    rows++;
+                    if (o.item != null)
+                        accepted.add(o.item);
+                    else if (o.result.equals("REJECTED"))
+                        rejected++;
+                    else
+                        malformed++;
+                    report.write(current.get(i).line + "," + o.result + ","
+                            + (o.item != null ? o.item.id : "") + "," + csvField(o.detail));
+                    report.newLine();
+                }
+            }
+        }
+        long t = System.nanoTime();
+        if (!accepted.isEmpty())
+            committer.accept(accepted);
+        long commitNanos = System.nanoTime() - t;
+        return new Result(reportFile, rows, accepted.size(), rejected, malformed, parseNanos, qualifyNanos.get(),
+                commitNanos, System.nanoTime() - start);
+    }
+
+    private static RowReader open(Path input) throws IOException {
+        String name = input.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson"))
+            return new JsonlReader(Files.newBufferedReader(input));
+        if (name.endsWith(".csv"))
+            return new CsvReader(Files.newBufferedReader(input));
+        throw new IOException("Unsupported file type (expected .csv or .jsonl): " + input);
+    }
+
+    // Rows are qualified on their fields; only an accepted row becomes an item, since
+    // building one interns its words into the shared token dictionary
+    private Outcome qualify(Row row) {
+        if (row.error != null)
+            return new Outcome("MALFORMED", null, row.error);
+        Map<String, String> f = row.fields;
+        double estimatedValue;
+        boolean perishable;
+        LocalDate dateFound;
+        try {
+            estimatedValue = estimatedValue(text(f, "estimatedvalue"));
+            perishable = LostAndFoundSystem.parseYesNo("perishable", text(f, "perishable"));
+            String date = text(f, "datefound");
+            dateFound = date.isEmpty() ? LocalDate.now() : LocalDate.parse(date);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return new Outcome("MALFORMED", null, e.getMessage());
+        }
+        QualificationResult q = qualifier.evaluate(text(f, "name"), text(f, "description"), text(f, "location"),
+                text(f, "contact"), estimatedValue, perishable);
+        if (!q.isAccepted()) {
+            QualificationResult.RuleOutcome failure = q.getFailure();
+            return new Outcome("REJECTED", null,
+                    failure.rule.label + ": " + failure.reason.trim().replace('\n', ' '));
+        }
+        // Missing text fields are empty (the qualification rules decide); a missing date
+        // means today and a missing value 0, as in an interactive submission
+        LostAndFoundSystem.Item item = new LostAndFoundSystem.Item(UUID.randomUUID().toString(), text(f, "name"),
+                text(f, "description"), LostAndFoundSystem.submittedCategory(text(f, "category")), dateFound,
+                text(f, "location"), text(f, "contact"), estimatedValue, perishable, "ACTIVE", LocalDateTime.now());
+        return new Outcome("ACCEPTED", item, "");
+    }
+
+    private static double estimatedValue(String value) {
+        try {
+            return value.isEmpty() ? 0 : Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("estimatedValue is not a number: " + value);
+        }
+    }
+
+    private static String text(Map<String, String> f, String field) {
+        String v = f.get(field);
+        return v == null ? "" : v.trim();
+    }
+
+    private static String csvField(String s) {
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0)
+            return s;
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+
+    private static Map<String, String> fields(List<String> keys, List<String> values) {
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < keys.size() && i < values.size(); i++) {
+            String field = FIELD_ALIASES.get(normalizeKey(keys.get(i)));
+            if (field != null)
+                fields.put(field, values.get(i));
+        }
+        return fields;
+    }
+
+    // "Date Found", "date_found" and "dateFound" all become "datefound"
+    private static String normalizeKey(String key) {
+        StringBuilder sb = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (Character.isLetterOrDigit(c))
+                sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    private static final class Row {
+        final int line; // first line of the row in the file
+        final Map<String, String> fields;
+        final String error; // set for rows that could not be read
+
+        Row(int line, Map<String, String> fields, String error) {
+            this.line = line;
+            this.fields = fields;
+            this.error = error;
+        }
+    }
+
+    private static final class Outcome {
+        final String result;
+        final LostAndFoundSystem.Item item; // accepted rows only
+        final String detail;
+
+        Outcome(String result, LostAndFoundSystem.Item item, String detail) {
+            this.result = result;
+            this.item = item;
+            this.detail = detail;
+        }
+    }
+
+    private abstract static class RowReader implements Closeable {
+        final BufferedReader in;
+        int line; // lines read so far
+
+        RowReader(BufferedReader in) {
+            this.in = in;
+        }
+
+        // Next row, skipping blank lines; null at the end of the file
+        abstract Row nextRow() throws IOException;
+
+        List<Row> next(int max) throws IOException {
+            List<Row> rows = new ArrayList<>(max);
+            Row r;
+            while (rows.size() < max && (r = nextRow()) != null)
+                rows.add(r);
+            return rows;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static final class JsonlReader extends RowReader {
+        JsonlReader(BufferedReader in) {
+            super(in);
+        }
+
+        @Override
+        Row nextRow() throws IOException {
+            String l;
+            while ((l = in.readLine()) != null) {
+                line++;
+                if (l.trim().isEmpty())
+                    continue;
+                try {
+                    Map<String, String> object = Json.parseFlatObject(l);
+                    return new Row(line, fields(new ArrayList<>(object.keySet()), new ArrayList<>(object.values())),
+                            null);
+                } catch (IllegalArgumentException e) {
+                    return new Row(line, null, e.getMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    // RFC 4180 style: quoted fields may contain commas, doubled quotes and line breaks
+    private static final class CsvReader extends RowReader {
+        private final List<String> header;
+
+        CsvReader(BufferedReader in) throws IOException {
+            super(in);
+            List<String> h = record();
+            if (h == null) {
+                in.close();
+                throw new IOException("Empty CSV file (a header row is required)");
+            }
+            header = h;
+        }
+
+        @Override
+        Row nextRow() throws IOException {
+            while (true) {
+                int first = line + 1;
+                List<String> values;
+                try {
+                    values = record();
+                } catch (IllegalArgumentException e) {
+                    return new Row(first, null, e.getMessage());
+                }
+                if (values == null)
+                    return null;
+                if (values.size() == 1 && values.get(0).trim().isEmpty())
+                    continue;
+                if (values.size() > header.size())
+                    return new Row(first, null,
+                            "expected " + header.size() + " fields, found " + values.size());
+                return new Row(first, fields(header, values), null);
+            }
+        }
+
+        private List<String> record() throws IOException {
+            String l = in.readLine();
+            if (l == null)
+                return null;
+            line++;
+            List<String> values = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == l.length()) {
+                    if (!quoted) {
+                        values.add(field.toString());
+                        return values;
+                    }
+                    l = in.readLine(); // line break inside a quoted field
+                    if (l == null)
+                        throw new IllegalArgumentException("unterminated quoted field");
+                    line++;
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+                char c = l.charAt(i++);
+                if (quoted) {
+                    if (c != '"')
+                        field.append(c);
+                    else if (i < l.length() && l.charAt(i) == '"')
+                        field.append(l.charAt(i++));
+                    else
+                        quoted = false;
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+        }
+    }
+}
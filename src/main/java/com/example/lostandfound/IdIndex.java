@@ -0,0 +1,56 @@
+package com.example.lostandfound;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// IdIndex
+// Item id -> ordinal in the item store.
+// - exact ids: hash map, O(1)
+// - prefixes (the GUI shows the first 8 characters): sorted map; all ids sharing a
+//   prefix are adjacent, so a lookup is one ceiling search plus a walk over the matches
+// Lookups are lock-free; writers must be serialized by the caller.
+class IdIndex {
+    private final Map<String, Integer> byId = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Integer> sorted = new ConcurrentSkipListMap<>();
+
+    void add(String id, int ordinal) {
+        byId.put(id, ordinal);
+        sorted.put(id, ordinal);
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    /**
+     * Ordinal of the item with exactly this id, or -1.
+     */
+    int get(String id) {
+        Integer o = byId.get(id);
+        return o != null ? o : -1;
+    }
+
+    /**
+     * Resolves a full id or an id prefix. An exact id always wins; otherwise returns
+     * the ordinals of up to limit items whose id starts with the prefix, in id order.
+     * Empty result = not found, more than one = ambiguous prefix.
+     */
+    int[] resolve(String idOrPrefix, int limit) {
+        if (idOrPrefix == null || idOrPrefix.isEmpty())
+            return new int[0];
+        int exact = get(idOrPrefix);
+        if (exact >= 0)
+            return new int[] { exact };
+        int[] found = new int[Math.max(1, limit)];
+        int n = 0;
+        for (Map.Entry<String, Integer> e : sorted.tailMap(idOrPrefix, true).entrySet()) {
+            if (!e.getKey().startsWith(idOrPrefix) || n == found.length)
+                break;
+            found[n++] = e.getValue();
+        }
+        return Arrays.copyOf(found, n);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.lostandfound;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// InvertedIndex
+// Maps each token id (see TokenDictionary) to a postings list of item ordinals
+// (the item's position in the item store). Postings are kept sorted ascending
+// so the candidates for a query come back in the same order a full scan would visit them.
+// Reads are lock-free: a postings list is never changed once readers can see it, so a
+// query works on a consistent list per token even while an item is being added. Writers
+// must be serialized by the caller.
+class InvertedIndex {
+    private volatile AtomicReferenceArray<Postings> postings = new AtomicReferenceArray<>(256);
+
+    void add(int ordinal, int[] tokenIds) {
+        for (int t : tokenIds) {
+            AtomicReferenceArray<Postings> table = tableFor(t);
+            Postings p = table.get(t);
+            table.set(t, p == null ? Postings.EMPTY.with(ordinal) : p.with(ordinal));
+        }
+    }
+
+    void remove(int ordinal, int[] tokenIds) {
+        AtomicReferenceArray<Postings> table = postings;
+        for (int t : tokenIds) {
+            Postings p = get(table, t);
+            if (p != null)
+                table.set(t, p.without(ordinal));
+        }
+    }
+
+    void clear() {
+        postings = new AtomicReferenceArray<>(256);
+    }
+
+    private AtomicReferenceArray<Postings> tableFor(int tokenId) {
+        AtomicReferenceArray<Postings> table = postings;
+        if (tokenId < table.length())
+            return table;
+        AtomicReferenceArray<Postings> grown = new AtomicReferenceArray<>(Math.max(tokenId + 1, table.length() * 2));
+        for (int i = 0; i < table.length(); i++)
+            grown.set(i, table.get(i));
+        postings = grown;
+        return grown;
+    }
+
+    private static Postings get(AtomicReferenceArray<Postings> table, int tokenId) {
+        return tokenId >= 0 && tokenId < table.length() ? table.get(tokenId) : null;
+    }
+
+    /**
+     * Number of items containing the token (0 for unknown ids).
+     */
+    int frequency(int tokenId) {
+        Postings p = get(postings, tokenId);
+        return p != null ? p.size : 0;
+    }
+
+    /**
+     * Returns the sorted, distinct ordinals of all items sharing at least one
+     * token with the query.
+     */
+    int[] candidates(int[] queryTokenIds) {
+        AtomicReferenceArray<Postings> table = postings;
+        Postings[] hits = new Postings[queryTokenIds.length];
+        int total = 0;
+        Postings single = null;
+        int nonEmpty = 0;
+        for (int i = 0; i < queryTokenIds.length; i++) {
+            Postings p = get(table, queryTokenIds[i]);
+            if (p == null || p.size == 0)
+                continue;
+            hits[i] = p;
+            total += p.size;
+            single = p;
+            nonEmpty++;
+        }
+        if (nonEmpty == 0)
+            return new int[0];
+        if (nonEmpty == 1)
+            return Arrays.copyOf(single.ords, single.size);
+
+        int[] all = new int[total];
+        int n = 0;
+        for (Postings p : hits) {
+            if (p == null)
+                continue;
+            System.arraycopy(p.ords, 0, all, n, p.size);
+            n += p.size;
+        }
+        Arrays.sort(all);
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (distinct == 0 || all[distinct - 1] != all[i])
+                all[distinct++] = all[i];
+        }
+        return Arrays.copyOf(all, distinct);
+    }
+
+    // Sorted ordinals ords[0, size). Appending a larger ordinal writes past size into
+    // spare capacity (invisible to holders of this instance) and returns a new instance;
+    // anything else copies the array.
+    private static final class Postings {
+        static final Postings EMPTY = new Postings(new int[0], 0);
+
+        final int[] ords;
+        final int size;
+
+        private Postings(int[] ords, int size) {
+            this.ords = ords;
+            this.size = size;
+        }
+
+        Postings with(int ordinal) {
+            if (size == 0 || ords[size - 1] < ordinal) {
+                int[] target = size < ords.length ? ords : Arrays.copyOf(ords, Math.max(4, size * 2));
+                target[size] = ordinal;
+                return new Postings(target, size + 1);
+            }
+            int pos = Arrays.binarySearch(ords, 0, size, ordinal);
+            if (pos >= 0)
+                return this;
+            int at = -pos - 1;
+            int[] copy = new int[Math.max(4, size + 1 + (size >> 1))];
+            System.arraycopy(ords, 0, copy, 0, at);
+            copy[at] = ordinal;
+            System.arraycopy(ords, at, copy, at + 1, size - at);
+            return new Postings(copy, size + 1);
+        }
+
+        Postings without(int ordinal) {
+            int pos = Arrays.binarySearch(ords, 0, size, ordinal);
+            if (pos < 0)
+                return this;
+            int[] copy = new int[Math.max(4, size)];
+            System.arraycopy(ords, 0, copy, 0, pos);
+            System.arraycopy(ords, pos + 1, copy, pos, size - pos - 1);
+            return new Postings(copy, size - 1);
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.example.lostandfound;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+
+// ItemArchive
+// Cold tier for REMOVED items. They leave the hot store (heap, search indexes and
+// snapshots) and are kept on disk until a listing or an id lookup asks for them:
+// - segment: append-only, one record (text store line) per line, in archive order
+// - index: header, entries [id length][id UTF-8][record offset] sorted by id, then a
+//   table of entry positions; lookups binary-search the table with positional reads,
+//   so nothing is held in memory per archived item and ids sharing a prefix are
+//   adjacent
+// archive() appends the new records and forces them to disk, then writes the old
+// index merged with the new ids to a temp file and moves it over the old one. A crash
+// leaves one index or the other; segment bytes past the length the index covers belong
+// to no record and are cut when the archive is opened.
+// Each record also belongs to a snapshot generation: rows of snapshots older than
+// generation() may be archived already (see LostAndFoundSystem.loadItemsFromFile).
+class ItemArchive {
+    private static final int MAGIC = 0x4C464152; // "LFAR"
+    private static final int VERSION = 1;
+    // magic, version, count, segment length, generation, position of the slot table
+    private static final int HEADER_BYTES = 4 + 4 + 4 + 8 + 8 + 8;
+
+    private final Path segmentFile;
+    private final Path indexFile;
+    private boolean opened = false;
+    private FileChannel segment; // null while the archive is empty
+    private FileChannel index;
+    private int count = 0;
+    private long segmentLength = 0;
+    private long generation = -1;
+    private long slotsOffset = HEADER_BYTES;
+
+    ItemArchive(Path segmentFile, Path indexFile) {
+        this.segmentFile = segmentFile;
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Opens the files if they exist (nothing is created until the first archive()) and
+     * cuts segment bytes no index entry covers.
+     */
+    synchronized void open() throws IOException {
+        close();
+        if (Files.exists(indexFile)) {
+            index = FileChannel.open(indexFile, StandardOpenOption.READ);
+            ByteBuffer h = read(index, HEADER_BYTES, 0);
+            if (h.getInt() != MAGIC || h.getInt() != VERSION)
+                throw new IOException("Not an item archive index: " + indexFile);
+            count = h.getInt();
+            segmentLength = h.getLong();
+            generation = h.getLong();
+            slotsOffset = h.getLong();
+        }
+        if (Files.exists(segmentFile)) {
+            segment = FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (segment.size() < segmentLength)
+                throw new IOException("Archive segment shorter than its index: " + segmentFile);
+            if (segment.size() > segmentLength)
+                segment.truncate(segmentLength); // records of an interrupted archive()
+        } else if (segmentLength > 0) {
+            throw new IOException("Archive segment missing: " + segmentFile);
+        }
+        opened = true;
+    }
+
+    synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Newest snapshot generation passed to archive(), -1 if none.
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    synchronized boolean contains(String id) throws IOException {
+        int i = lowerBound(id);
+        return i < count && entryId(i).equals(id);
+    }
+
+    /**
+     * Record offsets for a full id or an id prefix, like IdIndex.resolve: an exact id
+     * wins, otherwise up to limit ids starting with the prefix, in id order.
+     */
+    synchronized long[] resolve(String idOrPrefix, int limit) throws IOException {
+        if (idOrPrefix == null || idOrPrefix.isEmpty())
+            return new long[0];
+        int i = lowerBound(idOrPrefix);
+        if (i < count && entryId(i).equals(idOrPrefix))
+            return new long[] { entryOffset(i) };
+        long[] found = new long[Math.max(1, limit)];
+        int n = 0;
+        for (; i < count && n < found.length; i++) {
+            if (!entryId(i).startsWith(idOrPrefix))
+                break;
+            found[n++] = entryOffset(i);
+        }
+        return Arrays.copyOf(found, n);
+    }
+
+    /**
+     * The record starting at offset.
+     */
+    synchronized String read(long offset) throws IOException {
+        if (segment == null || offset < 0 || offset >= segmentLength)
+            throw new IOException("No archive record at " + offset);
+        ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+        ByteBuffer buf = ByteBuffer.allocate(512);
+        for (long pos = offset; pos < segmentLength;) {
+            buf.clear().limit((int) Math.min(buf.capacity(), segmentLength - pos));
+            int n = segment.read(buf, pos);
+            if (n < 0)
+                break;
+            for (int i = 0; i < n; i++) {
+                if (buf.get(i) == '\n')
+                    return decode(line, buf, i);
+            }
+            line.write(buf.array(), 0, n);
+            pos += n;
+        }
+        return decode(line, buf, 0);
+    }
+
+    /**
+     * Streams every record with its offset, in archive order.
+     */
+    synchronized void forEach(ObjLongConsumer<String> consumer) throws IOException {
+        if (segment == null)
+            return;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(segmentFile), 1 << 16)) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+            long start = 0;
+            for (long pos = 0; pos < segmentLength; pos++) {
+                int b = in.read();
+                if (b < 0)
+                    break;
+                if (b == '\n') {
+                    consumer.accept(new String(line.toByteArray(), StandardCharsets.UTF_8), start);
+                    line.reset();
+                    start = pos + 1;
+                } else {
+                    line.write(b);
+                }
+            }
+        }
+    }
+
+    /**
+     * Archives the records (lines.get(i) belongs to ids.get(i)) as of the given
+     * snapshot generation. Ids already archived are skipped; returns the number of
+     * records added.
+     */
+    synchronized int archive(List<String> ids, List<String> lines, long snapshotGeneration) throws IOException {
+        if (!opened)
+            throw new IOException("Archive not opened");
+        Integer[] order = new Integer[ids.size()];
+        for (int i = 0; i < order.length; i++)
+            order[i] = i;
+        Arrays.sort(order, (a, b) -> ids.get(a).compareTo(ids.get(b)));
+
+        // drop repeats and ids the index already has (one sequential pass over it)
+        List<Integer> fresh = new ArrayList<>(order.length);
+        try (EntryReader old = new EntryReader()) {
+            for (int k = 0; k < order.length; k++) {
+                String id = ids.get(order[k]);
+                if (k > 0 && id.equals(ids.get(order[k - 1])))
+                    continue;
+                while (old.hasNext() && old.peekId().compareTo(id) < 0)
+                    old.next();
+                if (!old.hasNext() || !old.peekId().equals(id))
+                    fresh.add(order[k]);
+            }
+        }
+        if (fresh.isEmpty())
+            return 0;
+
+        // 1. records, durable before any index points at them
+        if (segment == null)
+            segment = FileChannel.open(segmentFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        segment.truncate(segmentLength);
+        long[] offsets = new long[fresh.size()];
+        long pos = segmentLength;
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = pos;
+            ByteBuffer record = StandardCharsets.UTF_8.encode(lines.get(fresh.get(i)) + "\n");
+            while (record.hasRemaining())
+                pos += segment.write(record, pos);
+        }
+        segment.force(true);
+
+        // 2. merged index, swapped in atomically
+        Path tmp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        int total = count + offsets.length;
+        long[] slots = new long[total];
+        long newGeneration = Math.max(generation, snapshotGeneration);
+        try (EntryReader old = new EntryReader();
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                        Files.newOutputStream(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING),
+                        1 << 16))) {
+            out.write(new byte[HEADER_BYTES]); // filled in below
+            int n = 0, k = 0;
+            while (old.hasNext() || k < offsets.length) {
+                slots[n++] = out.size();
+                if (k == offsets.length
+                        || (old.hasNext() && old.peekId().compareTo(ids.get(fresh.get(k))) < 0)) {
+                    writeEntry(out, old.peekId(), old.peekOffset());
+                    old.next();
+                } else {
+                    writeEntry(out, ids.get(fresh.get(k)), offsets[k]);
+                    k++;
+                }
+            }
+            long newSlotsOffset = out.size();
+            for (long s : slots)
+                out.writeLong(s);
+            out.flush();
+            try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                ByteBuffer h = ByteBuffer.allocate(HEADER_BYTES);
+                h.putInt(MAGIC).putInt(VERSION).putInt(total).putLong(pos).putLong(newGeneration)
+                        .putLong(newSlotsOffset).flip();
+                while (h.hasRemaining())
+                    ch.write(h, h.position());
+                ch.force(true);
+            }
+        }
+        if (index != null) {
+            index.close(); // an open file cannot be replaced on Windows
+            index = null;
+        }
+        try {
+            Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // the previous index is still in place; reopen it (cutting the records just
+            // written) so lookups keep working, or leave the archive closed and empty
+            try {
+                open();
+            } catch (IOException reopen) {
+                e.addSuppressed(reopen);
+            }
+            throw e;
+        }
+        open();
+        return offsets.length;
+    }
+
+    synchronized void close() throws IOException {
+        opened = false;
+        if (index != null)
+            index.close();
+        if (segment != null)
+            segment.close();
+        index = null;
+        segment = null;
+        count = 0;
+        segmentLength = 0;
+        generation = -1;
+        slotsOffset = HEADER_BYTES;
+    }
+
+    // First entry whose id is >= key
+    private int lowerBound(String key) throws IOException {
+        int lo = 0, hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (entryId(mid).compareTo(key) < 0)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+
+    private long entryPosition(int i) throws IOException {
+        return read(index, 8, slotsOffset + 8L * i).getLong();
+    }
+
+    private String entryId(int i) throws IOException {
+        long p = entryPosition(i);
+        int length = read(index, 2, p).getShort() & 0xFFFF;
+        return new String(read(index, length, p + 2).array(), StandardCharsets.UTF_8);
+    }
+
+    private long entryOffset(int i) throws IOException {
+        long p = entryPosition(i);
+        int length = read(index, 2, p).getShort() & 0xFFFF;
+        return read(index, 8, p + 2 + length).getLong();
+    }
+
+    private static void writeEntry(DataOutputStream out, String id, long offset) throws IOException {
+        byte[] b = id.getBytes(StandardCharsets.UTF_8);
+        if (b.length > 0xFFFF)
+            throw new IOException("Item id too long to archive");
+        out.writeShort(b.length);
+        out.write(b);
+        out.writeLong(offset);
+    }
+
+    private static ByteBuffer read(FileChannel ch, int length, long position) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(length);
+        while (buf.hasRemaining()) {
+            if (ch.read(buf, position + buf.position()) < 0)
+                throw new EOFException("Archive index truncated");
+        }
+        buf.flip();
+        return buf;
+    }
+
+    private static String decode(ByteArrayOutputStream line, ByteBuffer buf, int n) {
+        line.write(buf.array(), 0, n);
+        return new String(line.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    // Entries of the current index in id order, read sequentially
+    private final class EntryReader implements AutoCloseable {
+        private final DataInputStream in;
+        private int remaining = count;
+        private String id;
+        private long offset;
+
+        EntryReader() throws IOException {
+            if (count == 0) {
+                in = null;
+                return;
+            }
+            in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile), 1 << 16));
+            in.skipNBytes(HEADER_BYTES);
+            next();
+        }
+
+        boolean hasNext() {
+            return id != null;
+        }
+
+        String peekId() {
+            return id;
+        }
+
+        long peekOffset() {
+            return offset;
+        }
+
+        void next() throws IOException {
+            if (remaining == 0) {
+                id = null;
+                return;
+            }
+            byte[] b = new byte[in.readUnsignedShort()];
+            in.readFully(b);
+            id = new String(b, StandardCharsets.UTF_8);
+            offset = in.readLong();
+            remaining--;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (in != null)
+                in.close();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.lostandfound;
+
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.Pagination;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// ItemBrowser
+// Paged item table. Only the current page (PAGE_SIZE rows) is fetched and held, via
+// LostAndFoundSystem.listItemsPage on a background task; clicking a column header
+// re-queries the store in that order instead of sorting rows in the table. The table
+// holds and lays out one page; the store keeps one row order per sort key (an int per
+// item) and updates it as items are added.
+class ItemBrowser {
+    private static final int PAGE_SIZE = 100;
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final LostAndFoundSystem system;
+    private final BackgroundTasks tasks;
+    private final TableView<LostAndFoundSystem.ItemRow> table = new TableView<>();
+    private final Map<TableColumn<LostAndFoundSystem.ItemRow, ?>, LostAndFoundSystem.ItemSort> sortKeys = new HashMap<>();
+    private final Pagination pagination = new Pagination(1, 0);
+    private final CheckBox showRemoved = new CheckBox("Show removed");
+    private final Label totalLabel = new Label();
+    private final VBox view;
+    // runLatest key: replaces this browser's pending page load, not another browser's
+    private final String pageTaskKey = "browse-page-" + INSTANCES.incrementAndGet();
+
+    private LostAndFoundSystem.ItemSort sort = LostAndFoundSystem.ItemSort.STORAGE;
+    private boolean ascending = true;
+
+    ItemBrowser(LostAndFoundSystem system, BackgroundTasks tasks) {
+        this.system = system;
+        this.tasks = tasks;
+
+        table.getColumns().add(column("ID", null, r -> r.getId().substring(0, Math.min(8, r.getId().length()))));
+        table.getColumns().add(column("Name", null, LostAndFoundSystem.ItemRow::getName));
+        table.getColumns().add(column("Date", LostAndFoundSystem.ItemSort.DATE_FOUND,
+                r -> r.getDateFound().format(DateTimeFormatter.ISO_LOCAL_DATE)));
+        table.getColumns().add(column("Category", LostAndFoundSystem.ItemSort.CATEGORY,
+                LostAndFoundSystem.ItemRow::getCategory));
+        table.getColumns().add(column("Location", LostAndFoundSystem.ItemSort.LOCATION,
+                LostAndFoundSystem.ItemRow::getLocation));
+        table.getColumns().add(column("Value", LostAndFoundSystem.ItemSort.VALUE,
+                r -> String.format("%.2f", r.getEstimatedValue())));
+        table.getColumns().add(column("Status", LostAndFoundSystem.ItemSort.STATUS,
+                LostAndFoundSystem.ItemRow::getStatus));
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        table.setPlaceholder(new Label("(none)"));
+        // the store sorts; the table only reports which column was clicked
+        table.setSortPolicy(t -> {
+            applySortOrder();
+            return true;
+        });
+        VBox.setVgrow(table, Priority.ALWAYS);
+
+        // the table above shows the page; the pagination control only navigates
+        pagination.setPageFactory(page -> new Region());
+        pagination.setMaxHeight(Region.USE_PREF_SIZE);
+        pagination.currentPageIndexProperty().addListener((obs, old, page) -> loadPage(page.intValue()));
+        showRemoved.selectedProperty().addListener((obs, old, selected) -> reload());
+
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        HBox toolbar = new HBox(10, showRemoved, spacer, totalLabel);
+        toolbar.setAlignment(Pos.CENTER_LEFT);
+        view = new VBox(10, toolbar, table, pagination);
+        view.setPadding(new Insets(10));
+        view.setPrefSize(760, 480);
+    }
+
+    Node getView() {
+        return view;
+    }
+
+    /**
+     * Fetches the first page.
+     */
+    void load() {
+        loadPage(pagination.getCurrentPageIndex());
+    }
+
+    private TableColumn<LostAndFoundSystem.ItemRow, String> column(String title, LostAndFoundSystem.ItemSort key,
+            Function<LostAndFoundSystem.ItemRow, String> value) {
+        TableColumn<LostAndFoundSystem.ItemRow, String> c = new TableColumn<>(title);
+        c.setCellValueFactory(cell -> new ReadOnlyStringWrapper(value.apply(cell.getValue())));
+        c.setSortable(key != null);
+        if (key != null)
+            sortKeys.put(c, key);
+        return c;
+    }
+
+    private void applySortOrder() {
+        LostAndFoundSystem.ItemSort requested = LostAndFoundSystem.ItemSort.STORAGE;
+        boolean asc = true;
+        if (!table.getSortOrder().isEmpty()) {
+            TableColumn<LostAndFoundSystem.ItemRow, ?> c = table.getSortOrder().get(0);
+            requested = sortKeys.getOrDefault(c, LostAndFoundSystem.ItemSort.STORAGE);
+            asc = c.getSortType() == TableColumn.SortType.ASCENDING;
+        }
+        if (requested != sort || asc != ascending) {
+            sort = requested;
+            ascending = asc;
+            reload();
+        }
+    }
+
+    // back to the first page of the new listing
+    private void reload() {
+        if (pagination.getCurrentPageIndex() == 0)
+            loadPage(0);
+        else
+            pagination.setCurrentPageIndex(0); // listener loads it
+    }
+
+    private void loadPage(int page) {
+        // read the controls here, on the FX thread
+        boolean removed = showRemoved.isSelected();
+        LostAndFoundSystem.ItemSort key = sort;
+        boolean asc = ascending;
+        tasks.runLatest(pageTaskKey,
+                () -> system.listItemsPage(removed, key, asc, page * PAGE_SIZE, PAGE_SIZE),
+                this::show,
+                e -> totalLabel.setText("Could not load items: " + e.getMessage()));
+    }
+
+    private void show(LostAndFoundSystem.ItemPage page) {
+        table.getItems().setAll(page.getRows());
+        table.scrollTo(0);
+        totalLabel.setText(page.getTotal() + " items");
+        pagination.setPageCount(Math.max(1, (page.getTotal() + PAGE_SIZE - 1) / PAGE_SIZE));
+    }
+}
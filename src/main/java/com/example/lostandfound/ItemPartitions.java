@@ -0,0 +1,88 @@
+package com.example.lostandfound;
+
+import java.util.Arrays;
+
+// ItemPartitions
+// Partition of every stored item by status and category, recorded per ordinal:
+// - ACTIVE items belong to the partition of their category (one per category in the
+//   list; categories outside it count as the last one, "Others")
+// - items with any other status belong to no partition
+// A search names the partitions it wants as a bit mask. Index candidates from other
+// partitions are dropped by ordinal, and a full scan walks the one byte per ordinal,
+// so items outside the mask are never loaded. Reads are lock-free; set must be called
+// by the store's single writer whenever an item is added or changes status, before the
+// search indexes are updated.
+class ItemPartitions {
+    private static final String ACTIVE = "ACTIVE";
+
+    private final String[] categories;
+    // ordinal -> 1 + partition, 0 for none
+    private volatile byte[] partitionOf = new byte[1024];
+
+    ItemPartitions(String[] categories) {
+        if (categories.length > 31)
+            throw new IllegalArgumentException("At most 31 categories");
+        this.categories = categories.clone();
+    }
+
+    /**
+     * Mask selecting every partition.
+     */
+    int all() {
+        return (1 << categories.length) - 1;
+    }
+
+    /**
+     * Mask selecting one category (case-insensitive); null, blank or "Any" select every
+     * partition.
+     *
+     * @throws IllegalArgumentException if the category is not in the list
+     */
+    int mask(String category) {
+        if (category == null || category.isBlank() || category.trim().equalsIgnoreCase("Any"))
+            return all();
+        for (int i = 0; i < categories.length; i++) {
+            if (categories[i].equalsIgnoreCase(category.trim()))
+                return 1 << i;
+        }
+        throw new IllegalArgumentException("Unknown category " + category + ", expected one of "
+                + Arrays.toString(categories));
+    }
+
+    /**
+     * Records the partition for an item's current status and category.
+     */
+    void set(int ordinal, String status, String category) {
+        byte[] p = partitionOf;
+        if (ordinal >= p.length)
+            partitionOf = p = Arrays.copyOf(p, Math.max(ordinal + 1, p.length * 2));
+        p[ordinal] = ACTIVE.equalsIgnoreCase(status) ? (byte) (1 + partition(category)) : 0;
+    }
+
+    boolean contains(int ordinal, int mask) {
+        byte[] p = partitionOf;
+        return ordinal < p.length && p[ordinal] != 0 && (mask & (1 << (p[ordinal] - 1))) != 0;
+    }
+
+    /**
+     * Ordinals below size in the masked partitions, ascending.
+     */
+    int[] members(int mask, int size) {
+        byte[] p = partitionOf;
+        int[] result = new int[Math.min(size, p.length)];
+        int n = 0;
+        for (int o = 0; o < result.length; o++) {
+            if (p[o] != 0 && (mask & (1 << (p[o] - 1))) != 0)
+                result[n++] = o;
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private int partition(String category) {
+        for (int i = 0; i < categories.length; i++) {
+            if (categories[i].equalsIgnoreCase(category))
+                return i;
+        }
+        return categories.length - 1;
+    }
+}
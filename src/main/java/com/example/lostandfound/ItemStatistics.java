@@ -0,0 +1,66 @@
+package com.example.lostandfound;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// ItemStatistics
+// Counters kept in step with the item store so a statistics refresh is a few map reads
+// instead of a scan:
+// - items per status
+// - ACTIVE items per category and per found date
+// "Today" is looked up by the current date on every read, so the today counter rolls
+// over at midnight without a timer. Reads are lock-free; updates are called by the
+// store's single writer.
+class ItemStatistics {
+    private static final String ACTIVE = "ACTIVE";
+
+    private final Map<String, Integer> byStatus = new ConcurrentHashMap<>();
+    private final Map<String, Integer> activeByCategory = new ConcurrentHashMap<>();
+    private final Map<LocalDate, Integer> activeByDate = new ConcurrentHashMap<>();
+
+    void added(LostAndFoundSystem.Item item) {
+        update(item, 1);
+    }
+
+    /**
+     * An item was replaced by a copy (e.g. with a new status).
+     */
+    void replaced(LostAndFoundSystem.Item before, LostAndFoundSystem.Item after) {
+        update(before, -1);
+        update(after, 1);
+    }
+
+    int count(String status) {
+        return byStatus.getOrDefault(status, 0);
+    }
+
+    int activeOn(LocalDate date) {
+        return activeByDate.getOrDefault(date, 0);
+    }
+
+    int activeToday() {
+        return activeOn(LocalDate.now());
+    }
+
+    /**
+     * ACTIVE items per category, sorted by category name.
+     */
+    Map<String, Integer> activeByCategory() {
+        return new TreeMap<>(activeByCategory);
+    }
+
+    private void update(LostAndFoundSystem.Item item, int delta) {
+        add(byStatus, item.status, delta);
+        if (ACTIVE.equals(item.status)) {
+            add(activeByCategory, item.getCategory(), delta);
+            add(activeByDate, item.dateFound, delta);
+        }
+    }
+
+    // drops keys that reach zero so the date map only holds days with active items
+    private static <K> void add(Map<K, Integer> counts, K key, int delta) {
+        counts.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+}
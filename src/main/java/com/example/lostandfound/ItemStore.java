@@ -0,0 +1,151 @@
+package com.example.lostandfound;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+// ItemStore
+// Concurrent item list with lock-free reads. Readers take an immutable, versioned
+// Snapshot and iterate it without locking; writers are serialized (single writer) and
+// publish a new snapshot after every change:
+// - append writes the slot just past the published size, which no existing snapshot can
+//   see, then publishes the larger size (amortized O(1)); appendAll publishes a whole
+//   batch as one version
+// - set copies the chunk holding the slot (and the chunk table), so older snapshots keep
+//   the previous element; cost is O(CHUNK + size / CHUNK) instead of O(size); setAll
+//   does the same for a batch and publishes it as one version
+// Elements must be immutable (a changed item is stored as a new object via set).
+class ItemStore<T> {
+    private static final int SHIFT = 10;
+    private static final int CHUNK = 1 << SHIFT;
+    private static final int MASK = CHUNK - 1;
+
+    // Immutable view of the store at one version; safe to share between threads
+    static final class Snapshot<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[][] chunks;
+        private final int size;
+        private final long version;
+
+        private Snapshot(Object[][] chunks, int size, long version) {
+            this.chunks = chunks;
+            this.size = size;
+            this.version = version;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+            return (T) chunks[index >>> SHIFT][index & MASK];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Increases by one with every change; equal versions mean equal contents.
+         */
+        long version() {
+            return version;
+        }
+    }
+
+    // writer side: chunk table of the latest snapshot (may have spare capacity)
+    private Object[][] chunks = new Object[4][];
+    private volatile Snapshot<T> current = new Snapshot<>(chunks, 0, 0);
+
+    Snapshot<T> snapshot() {
+        return current;
+    }
+
+    int size() {
+        return current.size;
+    }
+
+    long version() {
+        return current.version;
+    }
+
+    /**
+     * Adds an element at index size() and returns the snapshot that contains it.
+     */
+    synchronized Snapshot<T> append(T element) {
+        Snapshot<T> s = current;
+        int index = s.size;
+        int c = index >>> SHIFT;
+        if (c == chunks.length)
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        if (chunks[c] == null)
+            chunks[c] = new Object[CHUNK];
+        chunks[c][index & MASK] = element;
+        return publish(new Snapshot<>(chunks, index + 1, s.version + 1));
+    }
+
+    /**
+     * Adds elements at index size() onwards and publishes them as one new snapshot.
+     */
+    synchronized Snapshot<T> appendAll(List<T> elements) {
+        Snapshot<T> s = current;
+        if (elements.isEmpty())
+            return s;
+        int index = s.size;
+        for (T element : elements) {
+            int c = index >>> SHIFT;
+            if (c == chunks.length)
+                chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            if (chunks[c] == null)
+                chunks[c] = new Object[CHUNK];
+            chunks[c][index & MASK] = element;
+            index++;
+        }
+        return publish(new Snapshot<>(chunks, index, s.version + 1));
+    }
+
+    /**
+     * Replaces the element at index; snapshots taken earlier still see the old one.
+     */
+    synchronized Snapshot<T> set(int index, T element) {
+        Snapshot<T> s = current;
+        if (index < 0 || index >= s.size)
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + s.size);
+        int c = index >>> SHIFT;
+        chunks = chunks.clone();
+        chunks[c] = chunks[c].clone();
+        chunks[c][index & MASK] = element;
+        return publish(new Snapshot<>(chunks, s.size, s.version + 1));
+    }
+
+    /**
+     * Replaces several elements and publishes them as one new snapshot, so readers see
+     * either none or all of the changes. Each touched chunk is copied once.
+     */
+    synchronized Snapshot<T> setAll(int[] indexes, List<T> elements) {
+        Snapshot<T> s = current;
+        if (indexes.length == 0)
+            return s;
+        Object[][] table = chunks.clone();
+        boolean[] copied = new boolean[table.length];
+        for (int i = 0; i < indexes.length; i++) {
+            int index = indexes[i];
+            if (index < 0 || index >= s.size)
+                throw new IndexOutOfBoundsException("Index " + index + ", size " + s.size);
+            int c = index >>> SHIFT;
+            if (!copied[c]) {
+                table[c] = table[c].clone();
+                copied[c] = true;
+            }
+            table[c][index & MASK] = elements.get(i);
+        }
+        chunks = table;
+        return publish(new Snapshot<>(chunks, s.size, s.version + 1));
+    }
+
+    private Snapshot<T> publish(Snapshot<T> next) {
+        current = next;
+        return next;
+    }
+}
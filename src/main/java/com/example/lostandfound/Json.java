@@ -0,0 +1,158 @@
+package com.example.lostandfound;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Json
+// Minimal JSON support: parsing flat records (no nested objects or arrays) for JSONL
+// imports and request bodies, and escaping strings for responses. Parsed values are
+// returned as text: strings unescaped, numbers and booleans as written, null as null.
+final class Json {
+    private Json() {
+    }
+
+    /**
+     * Parses one flat object such as {"name":"Wallet","estimatedValue":500}.
+     *
+     * @throws IllegalArgumentException if the text is not a flat JSON object
+     */
+    static Map<String, String> parseFlatObject(String text) {
+        Parser p = new Parser(text);
+        Map<String, String> fields = new LinkedHashMap<>();
+        p.expect('{');
+        if (!p.consume('}')) {
+            do {
+                String key = p.string();
+                p.expect(':');
+                fields.put(key, p.value());
+            } while (p.consume(','));
+            p.expect('}');
+        }
+        p.skipSpace();
+        if (p.pos != text.length())
+            throw p.error("trailing characters");
+        return fields;
+    }
+
+    /**
+     * Appends s as a quoted, escaped JSON string, or null.
+     */
+    static StringBuilder appendString(StringBuilder sb, String s) {
+        if (s == null)
+            return sb.append("null");
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20)
+                        sb.append(String.format("\\u%04x", (int) c));
+                    else
+                        sb.append(c);
+            }
+        }
+        return sb.append('"');
+    }
+
+    private static final class Parser {
+        private final String s;
+        private int pos;
+
+        Parser(String s) {
+            this.s = s;
+        }
+
+        void skipSpace() {
+            while (pos < s.length() && Character.isWhitespace(s.charAt(pos)))
+                pos++;
+        }
+
+        boolean consume(char c) {
+            skipSpace();
+            if (pos < s.length() && s.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        void expect(char c) {
+            if (!consume(c))
+                throw error("expected '" + c + "'");
+        }
+
+        String value() {
+            skipSpace();
+            if (pos >= s.length())
+                throw error("missing value");
+            char c = s.charAt(pos);
+            if (c == '"')
+                return string();
+            if (c == '{' || c == '[')
+                throw error("nested values are not supported");
+            int start = pos;
+            while (pos < s.length() && ",}] \t\r\n".indexOf(s.charAt(pos)) < 0)
+                pos++;
+            String literal = s.substring(start, pos);
+            if (literal.equals("null"))
+                return null;
+            if (literal.equals("true") || literal.equals("false") || isNumber(literal))
+                return literal;
+            throw error("invalid value '" + literal + "'");
+        }
+
+        String string() {
+            expect('"');
+            StringBuilder sb = new StringBuilder();
+            while (pos < s.length()) {
+                char c = s.charAt(pos++);
+                if (c == '"')
+                    return sb.toString();
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                if (pos >= s.length())
+                    break;
+                char e = s.charAt(pos++);
+                switch (e) {
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'u':
+                        if (pos + 4 > s.length())
+                            throw error("bad \\u escape");
+                        try {
+                            sb.append((char) Integer.parseInt(s.substring(pos, pos + 4), 16));
+                        } catch (NumberFormatException ex) {
+                            throw error("bad \\u escape");
+                        }
+                        pos += 4;
+                        break;
+                    default: sb.append(e); // \" \\ \/
+                }
+            }
+            throw error("unterminated string");
+        }
+
+        private static boolean isNumber(String literal) {
+            try {
+                Double.parseDouble(literal);
+                return !literal.isEmpty() && "-0123456789".indexOf(literal.charAt(0)) >= 0;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Invalid JSON at " + pos + ": " + message);
+        }
+    }
+}
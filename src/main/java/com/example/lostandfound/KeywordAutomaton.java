@@ -0,0 +1,124 @@
+package com.example.lostandfound;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// KeywordAutomaton
+// Aho-Corasick matcher over several keyword vocabularies at once. Vocabulary i sets bit i
+// of the result when any of its keywords occurs as a substring (case-insensitive), the
+// same test as lowercasing the text and calling String.contains per keyword.
+// Built once into a dense DFA (goto and failure links folded into one transition table),
+// so matching is one table lookup per character regardless of how many keywords exist.
+class KeywordAutomaton {
+    private final int[] charClass = new int[128]; // ASCII char -> alphabet index, 0 = not in any keyword
+    private final int alphabet;
+    private final int[] next; // state * alphabet + class -> state
+    private final int[] output; // state -> vocabulary bits ending here (incl. via failure links)
+    private final int allBits;
+
+    KeywordAutomaton(List<? extends Collection<String>> vocabularies) {
+        if (vocabularies.size() > 31)
+            throw new IllegalArgumentException("At most 31 vocabularies");
+
+        // alphabet: every (lowercased) char used by a keyword
+        int classes = 1;
+        for (Collection<String> words : vocabularies) {
+            for (String w : words) {
+                for (char c : w.toLowerCase().toCharArray()) {
+                    if (c >= 128)
+                        throw new IllegalArgumentException("Keywords must be ASCII: " + w);
+                    if (charClass[c] == 0)
+                        charClass[c] = classes++;
+                }
+            }
+        }
+        alphabet = classes;
+
+        // 1. trie
+        List<int[]> trie = new ArrayList<>();
+        List<Integer> out = new ArrayList<>();
+        trie.add(new int[alphabet]);
+        out.add(0);
+        for (int v = 0; v < vocabularies.size(); v++) {
+            for (String w : vocabularies.get(v)) {
+                int state = 0;
+                for (char c : w.toLowerCase().toCharArray()) {
+                    int cls = charClass[c];
+                    if (trie.get(state)[cls] == 0) {
+                        trie.get(state)[cls] = trie.size();
+                        trie.add(new int[alphabet]);
+                        out.add(0);
+                    }
+                    state = trie.get(state)[cls];
+                }
+                out.set(state, out.get(state) | (1 << v));
+            }
+        }
+
+        // 2. breadth-first: failure links folded into the transition table
+        int states = trie.size();
+        next = new int[states * alphabet];
+        output = new int[states];
+        int[] fail = new int[states];
+        for (int s = 0; s < states; s++)
+            output[s] = out.get(s);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int cls = 1; cls < alphabet; cls++) {
+            int child = trie.get(0)[cls];
+            next[cls] = child;
+            if (child != 0)
+                queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            output[s] |= output[fail[s]];
+            for (int cls = 1; cls < alphabet; cls++) {
+                int child = trie.get(s)[cls];
+                if (child != 0) {
+                    fail[child] = next[fail[s] * alphabet + cls];
+                    next[s * alphabet + cls] = child;
+                    queue.add(child);
+                } else {
+                    next[s * alphabet + cls] = next[fail[s] * alphabet + cls];
+                }
+            }
+        }
+        // class 0 (a char no keyword uses) always leads back to the root: already 0
+
+        int bits = 0;
+        for (int v = 0; v < vocabularies.size(); v++)
+            bits |= 1 << v;
+        allBits = bits;
+    }
+
+    /**
+     * Bits of the vocabularies with a keyword in the given texts joined by single spaces
+     * (e.g. name and description), without building the joined string.
+     */
+    int match(CharSequence... parts) {
+        int state = 0;
+        int found = 0;
+        for (int p = 0; p < parts.length; p++) {
+            if (p > 0) {
+                state = step(state, ' ');
+                found |= output[state];
+            }
+            CharSequence text = parts[p];
+            for (int i = 0; i < text.length(); i++) {
+                state = step(state, text.charAt(i));
+                found |= output[state];
+                if (found == allBits)
+                    return found;
+            }
+        }
+        return found;
+    }
+
+    private int step(int state, char c) {
+        char lower = Character.toLowerCase(c);
+        int cls = lower < 128 ? charClass[lower] : 0;
+        return next[state * alphabet + cls];
+    }
+}
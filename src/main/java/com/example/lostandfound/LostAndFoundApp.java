@@ -7,10 +7,13 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
 public class LostAndFoundApp extends Application {
+    private LostAndFoundController controller;
+
     @Override
     public void start(Stage stage) throws Exception {
         FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("lostandfound.fxml"));
         Scene scene = new Scene(fxmlLoader.load(), 800, 600);
+        controller = fxmlLoader.getController();
 
         // Set Application Icon
         try {
@@ -25,6 +28,12 @@ public class LostAndFoundApp extends Application {
         stage.show();
     }
 
+    @Override
+    public void stop() {
+        if (controller != null)
+            controller.shutdown();
+    }
+
     public static void main(String[] args) {
         launch();
     }
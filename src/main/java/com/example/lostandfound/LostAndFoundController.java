@@ -25,7 +25,30 @@ public class LostAndFoundController {
     @FXML
     private Label pendingItemsCount;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
+    // store actions; disabled until the saved items are loaded
+    @FXML
+    private Button submitTab;
+
+    @FXML
+    private Button searchTab;
+
+    @FXML
+    private Button listTab;
+
+    @FXML
+    private Button removeTab;
+
+    @FXML
+    private Button importTab;
+
+    private final javafx.beans.property.BooleanProperty loaded = new javafx.beans.property.SimpleBooleanProperty(false);
+
     private final LostAndFoundSystem system = new LostAndFoundSystem();
+    // every system call runs here, never on the FX thread
+    private final BackgroundTasks tasks = new BackgroundTasks();
 
     // === Color Scheme (Matches Updated FXML) ===
     private static final String DARK_BG = "#0f172a";
@@ -42,10 +65,24 @@ public class LostAndFoundController {
     // === Initialize ===
     @FXML
     public void initialize() {
-        // Load saved data
-        system.loadData();
+        busyIndicator.visibleProperty().bind(tasks.busyProperty());
+
+        // Load saved data; until then a search or listing would run against an empty
+        // store, so the actions stay disabled. After a failed load (reported) they are
+        // enabled on whatever could be read, as before.
+        for (Button action : new Button[] { submitTab, searchTab, listTab, removeTab, importTab })
+            action.disableProperty().bind(loaded.not());
+        tasks.run(() -> {
+            system.loadData();
+            return null;
+        }, ignored -> {
+            loaded.set(true);
+            updateStatistics();
+        }, e -> {
+            loaded.set(true);
+            showError("Could not load saved items: " + e.getMessage());
+        });
 
-        updateStatistics();
         outputArea.setText("""
                 🎉 Welcome to the Lost and Found System!
 
@@ -63,6 +100,11 @@ public class LostAndFoundController {
                 """);
     }
 
+    // Called by LostAndFoundApp.stop when the window closes
+    void shutdown() {
+        tasks.shutdown();
+    }
+
     // === Statistics ===
     private void updateStatistics() {
         int activeCount = system.getActiveItemsCount();
@@ -304,17 +346,19 @@ public class LostAndFoundController {
             boolean perish = (Boolean) data.get("perishable");
 
             // Submit to system
-            String message = system.guiSubmitFoundItem(name, desc, category, location, dateFound, value, perish,
-                    contact);
-
-            if (message.toLowerCase().contains("not accepted") || message.toLowerCase().contains("rejected")) {
-                showError("Item submission failed:\n\n" + message);
-                logActivity("Item submission rejected");
-            } else {
-                showSuccessDialog("Item Accepted", "✅ " + message);
-                logActivity("New item successfully submitted");
-                updateStatistics();
-            }
+            logActivity("Submitting item: " + name);
+            tasks.run(() -> system.guiSubmitFoundItem(name, desc, category, location, dateFound, value, perish,
+                    contact), message -> {
+                        if (message.toLowerCase().contains("not accepted")
+                                || message.toLowerCase().contains("rejected")) {
+                            showError("Item submission failed:\n\n" + message);
+                            logActivity("Item submission rejected");
+                        } else {
+                            showSuccessDialog("Item Accepted", "✅ " + message);
+                            logActivity("New item successfully submitted");
+                            updateStatistics();
+                        }
+                    }, e -> showError("An unexpected error occurred: " + e.getMessage()));
         } catch (Exception e) {
             showError("An unexpected error occurred: " + e.getMessage());
             e.printStackTrace();
@@ -345,6 +389,11 @@ public class LostAndFoundController {
             TextField locField = new TextField();
             locField.setPromptText("Location found (optional)");
 
+            ComboBox<String> categoryCombo = new ComboBox<>();
+            categoryCombo.getItems().add("Any");
+            categoryCombo.getItems().addAll(LostAndFoundSystem.CATEGORIES);
+            categoryCombo.setValue("Any");
+
             // Add to grid
             grid.add(new Label("Item Name"), 0, 0);
             grid.add(nameField, 1, 0);
@@ -355,6 +404,9 @@ public class LostAndFoundController {
             grid.add(new Label("Location"), 0, 2);
             grid.add(locField, 1, 2);
 
+            grid.add(new Label("Category"), 0, 3);
+            grid.add(categoryCombo, 1, 3);
+
             dialog.getDialogPane().setContent(grid);
             dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
 
@@ -368,6 +420,7 @@ public class LostAndFoundController {
                     results.put("name", nameField.getText());
                     results.put("desc", descField.getText());
                     results.put("loc", locField.getText());
+                    results.put("category", categoryCombo.getValue());
                     return results;
                 }
                 return null;
@@ -381,20 +434,24 @@ public class LostAndFoundController {
                 String name = data.get("name");
                 String desc = data.get("desc");
                 String loc = data.get("loc");
+                String category = data.get("category");
 
                 if (desc.trim().isEmpty()) {
                     showError("Description is required for search.");
                     return;
                 }
 
-                String message = system.guiSearchLostItem(name, desc, loc);
-                showInformationDialog("Search Results", message);
+                // a newer search cancels this one; only the latest result is shown
+                logActivity("Searching for: " + desc);
+                tasks.runLatest("search", () -> system.guiSearchLostItem(name, desc, loc, category), message -> {
+                    showInformationDialog("Search Results", message);
 
-                if (message.contains("No matches found")) {
-                    logActivity("Search completed – no matches for: " + desc);
-                } else {
-                    logActivity("Search completed – matches found for: " + desc);
-                }
+                    if (message.contains("No matches found")) {
+                        logActivity("Search completed – no matches for: " + desc);
+                    } else {
+                        logActivity("Search completed – matches found for: " + desc);
+                    }
+                }, e -> showError("An unexpected search error occurred: " + e.getMessage()));
             }
         } catch (Exception e) {
             showError("An unexpected search error occurred: " + e.getMessage());
@@ -404,8 +461,16 @@ public class LostAndFoundController {
 
     @FXML
     private void handleListFoundItems() {
-        String items = system.guiListItems(false); // Show only ACTIVE items by default
-        showInformationDialog("📋 Current Found Items", items);
+        // Paged table; shows only ACTIVE items by default
+        ItemBrowser browser = new ItemBrowser(system, tasks);
+        Dialog<Void> dialog = new Dialog<>();
+        dialog.setTitle("📋 Current Found Items");
+        dialog.setResizable(true);
+        dialog.getDialogPane().setContent(browser.getView());
+        dialog.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+        styleDialog(dialog, PRIMARY_BLUE);
+        browser.load();
+        dialog.show();
         logActivity("Listed all found items");
 
         updateStatistics();
@@ -413,11 +478,13 @@ public class LostAndFoundController {
 
     @FXML
     private void handleRemoveItem() {
-        try {
-            // Get all active items
-            // Get active items directly
-            java.util.List<String[]> activeItems = system.getActiveItemsForDialog();
+        // Get all active items in the background, then pick on the FX thread
+        tasks.runLatest("remove-list", system::getActiveItemsForDialog, this::showRemoveDialog,
+                e -> showError("Error removing items: " + e.getMessage()));
+    }
 
+    private void showRemoveDialog(java.util.List<String[]> activeItems) {
+        try {
             if (activeItems.isEmpty()) {
                 showInformationDialog("No Items", "There are no active items to remove.");
                 return;
@@ -428,40 +495,72 @@ public class LostAndFoundController {
             dialog.setTitle("🗑️ Remove Items");
             dialog.setHeaderText("Select items to remove (you can select multiple)");
 
-            // Create scroll pane with checkboxes
-            javafx.scene.layout.VBox vbox = new javafx.scene.layout.VBox(10);
-            vbox.setPadding(new javafx.geometry.Insets(15));
-            vbox.setStyle("-fx-background-color: " + DARK_BG + ";");
-
-            java.util.Map<CheckBox, String> checkBoxMap = new java.util.HashMap<>();
-
-            for (String[] itemData : activeItems) {
-                String id = itemData[0];
-                String display = itemData[1];
+            // Selection is kept per id, outside the cells: the list only creates cells for
+            // the visible rows and reuses them while scrolling or filtering
+            java.util.Map<String, javafx.beans.property.BooleanProperty> selected = new java.util.HashMap<>();
+            Label selectedCount = new Label("0 selected");
+            selectedCount.setStyle("-fx-text-fill: " + LIGHT_TEXT + ";");
+            int[] checked = { 0 }; // running count, so a toggle costs O(1)
+            javafx.util.Callback<String[], javafx.beans.value.ObservableValue<Boolean>> selection = itemData ->
+                    selected.computeIfAbsent(itemData[0], id -> {
+                        javafx.beans.property.BooleanProperty p = new javafx.beans.property.SimpleBooleanProperty(false);
+                        p.addListener((obs, was, now) -> {
+                            checked[0] += now ? 1 : -1;
+                            selectedCount.setText(checked[0] + " selected");
+                        });
+                        return p;
+                    });
+
+            javafx.collections.transformation.FilteredList<String[]> shown =
+                    new javafx.collections.transformation.FilteredList<>(
+                            javafx.collections.FXCollections.observableArrayList(activeItems));
+            ListView<String[]> listView = new ListView<>(shown);
+            listView.setCellFactory(javafx.scene.control.cell.CheckBoxListCell.forListView(selection,
+                    new javafx.util.StringConverter<String[]>() {
+                        @Override
+                        public String toString(String[] itemData) {
+                            return itemData == null ? "" : itemData[1];
+                        }
 
-                CheckBox cb = new CheckBox(display);
-                cb.setStyle("-fx-text-fill: " + LIGHT_TEXT + "; -fx-font-size: 12px;");
-                checkBoxMap.put(cb, id);
-                vbox.getChildren().add(cb);
-            }
+                        @Override
+                        public String[] fromString(String text) {
+                            // cells are not editable, so this is never needed; the display
+                            // text holds the id, so it maps back to its row anyway
+                            for (String[] itemData : activeItems) {
+                                if (itemData[1].equals(text))
+                                    return itemData;
+                            }
+                            return null;
+                        }
+                    }));
+            listView.setPrefSize(560, 300);
+            listView.setStyle("-fx-background-color: " + DARK_BG + "; -fx-border-color: " + BORDER_COLOR + ";");
+
+            TextField filter = new TextField();
+            filter.setPromptText("Filter by id, name, category or location");
+            filter.textProperty().addListener((obs, old, text) -> {
+                String needle = text.trim().toLowerCase();
+                shown.setPredicate(needle.isEmpty() ? null
+                        : itemData -> itemData[1].toLowerCase().contains(needle));
+            });
 
-            ScrollPane scrollPane = new ScrollPane(vbox);
-            scrollPane.setFitToWidth(true);
-            scrollPane.setPrefHeight(300);
-            scrollPane.setStyle("-fx-background: " + DARK_BG + "; -fx-border-color: " + BORDER_COLOR + ";");
+            javafx.scene.layout.VBox vbox = new javafx.scene.layout.VBox(10, filter, listView, selectedCount);
+            vbox.setPadding(new javafx.geometry.Insets(15));
+            vbox.setStyle("-fx-background-color: " + DARK_BG + ";");
 
-            dialog.getDialogPane().setContent(scrollPane);
+            dialog.getDialogPane().setContent(vbox);
             dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
 
             styleDialog(dialog, ERROR_RED);
 
-            // Result converter
+            // Result converter (selected items, including ones hidden by the filter)
             dialog.setResultConverter(buttonType -> {
                 if (buttonType == ButtonType.OK) {
                     java.util.List<String> selectedIds = new java.util.ArrayList<>();
-                    for (java.util.Map.Entry<CheckBox, String> entry : checkBoxMap.entrySet()) {
-                        if (entry.getKey().isSelected()) {
-                            selectedIds.add(entry.getValue());
+                    for (String[] itemData : activeItems) {
+                        javafx.beans.property.BooleanProperty p = selected.get(itemData[0]);
+                        if (p != null && p.get()) {
+                            selectedIds.add(itemData[0]);
                         }
                     }
                     return selectedIds;
@@ -484,18 +583,13 @@ public class LostAndFoundController {
 
                 Optional<ButtonType> confirmResult = confirm.showAndWait();
                 if (confirmResult.isPresent() && confirmResult.get() == ButtonType.OK) {
-                    int removed = 0;
-                    for (String id : idsToRemove) {
-                        String message = system.guiRemoveItem(id);
-                        if (!message.toLowerCase().contains("not found")) {
-                            removed++;
-                        }
-                    }
-
-                    showSuccessDialog("Items Removed",
-                            String.format("Successfully removed %d item(s)!", removed));
-                    logActivity(removed + " item(s) removed");
-                    updateStatistics();
+                    // one batch: a single store update, log record and audit write
+                    tasks.run(() -> system.removeItems(idsToRemove), removed -> {
+                        showSuccessDialog("Items Removed",
+                                String.format("Successfully removed %d item(s)!", removed));
+                        logActivity(removed + " item(s) removed");
+                        updateStatistics();
+                    }, e -> showError("Error removing items: " + e.getMessage()));
                 }
             } else if (result.isPresent()) {
                 showInformationDialog("No Selection", "No items were selected for removal.");
@@ -507,6 +601,25 @@ public class LostAndFoundController {
         }
     }
 
+    @FXML
+    private void handleImportItems() {
+        javafx.stage.FileChooser chooser = new javafx.stage.FileChooser();
+        chooser.setTitle("Import Found Items");
+        chooser.getExtensionFilters().add(
+                new javafx.stage.FileChooser.ExtensionFilter("CSV or JSONL files", "*.csv", "*.jsonl", "*.ndjson"));
+        java.io.File file = chooser.showOpenDialog(outputArea.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+
+        logActivity("Importing " + file.getName() + "...");
+        tasks.run(() -> system.guiImportFoundItems(file.getPath()), summary -> {
+            showInformationDialog("📥 Import Finished", summary);
+            logActivity(summary.lines().findFirst().orElse("Import finished"));
+            updateStatistics();
+        }, e -> showError("Error importing items: " + e.getMessage()));
+    }
+
     @FXML
     private void handleViewCriteria() {
         String criteria = getQualificationCriteria();
@@ -27,12 +27,24 @@ import java.util.regex.Pattern;
 
 public class LostAndFoundSystem {
     // Storage files (in working directory)
-    private static final String STORAGE_FILE = "items_store.txt";
+    private static final String STORAGE_FILE = "items_store.txt"; // text format (import/export)
+    private static final String BACKUP_FILE = "items_store.bak";
+    // binary checkpoints are written as items_store.<generation>.snap
+    private static final String SNAPSHOT_PREFIX = "items_store.";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String MUTATION_LOG_FILE = "items_store.wal"; // appended on every mutation
+    private static final String ARCHIVE_FILE = "items_archive.seg"; // REMOVED items, moved out at checkpoints
+    private static final String ARCHIVE_INDEX_FILE = "items_archive.idx";
+    private static final int CHECKPOINT_EVERY = 500; // log records before a background checkpoint
+    private static final long CHECKPOINT_INTERVAL_SECONDS = 60;
+    private static final int LOAD_CHUNK_BYTES = 4 << 20; // text store is parsed in parallel ranges of ~4 MB
     private static final String AUDIT_FILE = "audit.log";
     private static final String DELIM = "||"; // simple delimiter
     private static final double MIN_VALUE = 50.0; // minimum value to accept automatically
     private static final double PERISHABLE_MIN_VALUE = 100.0; // perishables with low value rejected
-    private static double SIMILARITY_THRESHOLD = 0.25; // adjustable threshold for matches (configurable)
+    static final QualificationEngine QUALIFIER = new QualificationEngine(MIN_VALUE, PERISHABLE_MIN_VALUE);
+    private static volatile double SIMILARITY_THRESHOLD = 0.25; // adjustable threshold for matches (configurable)
+    private static volatile Ranker RANKER = Ranker.JACCARD; // how matches are scored (configurable)
 
     // Category options
     public static final String[] CATEGORIES = { "Wallet", "Bag", "Electronics", "Documents", "Clothing", "Keys",
@@ -44,31 +56,68 @@ public class LostAndFoundSystem {
             "by", "from", "that", "this", "these", "those", "it", "its", "my", "your", "our", "their", "as", "but",
             "not", "so",
             "if", "then", "into", "about", "over", "under", "near", "between", "among", "per", "each", "per"));
-    // Acceptable item categories - personal or movable objects
-    private static final Set<String> ACCEPTABLE_KEYWORDS = new HashSet<>(Arrays.asList(
-            "handbag", "bag", "backpack", "purse", "tote", "satchel", "briefcase",
-            "wallet", "purse", "money", "cash", "coins", "creditcard", "card", "id", "identification", "passport",
-            "license",
-            "phone", "cellphone", "mobile", "smartphone", "tablet", "laptop", "notebook", "computer", "device",
-            "book", "textbook", "notebook", "journal", "diary", "magazine", "newspaper", "document", "paper",
-            "watch", "ring", "necklace", "bracelet", "earrings", "jewelry", "accessory", "glasses", "sunglasses",
-            "keys", "key", "keychain", "remote", "camera", "charger", "cable", "headphones", "earbuds", "airpods",
-            "clothing", "shirt", "pants", "jacket", "coat", "hat", "cap", "scarf", "gloves", "belt", "shoes", "boots"));
-
-    // Explicitly excluded categories
-    private static final Set<String> EXCLUDED_KEYWORDS = new HashSet<>(Arrays.asList(
-            "food", "drink", "beverage", "water", "soda", "coffee", "tea", "juice", "milk", "beer", "wine", "alcohol",
-            "sandwich", "burger", "pizza", "snack", "candy", "chocolate", "cookie", "cake", "bread", "fruit",
-            "vegetable",
-            "tissue", "tissues", "napkin", "napkins", "paper", "toilet", "bottle", "plastic", "container", "cup", "mug",
-            "disposable", "trash", "garbage", "waste", "perishable", "expired", "rotten", "moldy", "stale"));
-
-    // Low-value disposable items (regardless of keywords)
-    private static final Set<String> DISPOSABLE_KEYWORDS = new HashSet<>(Arrays.asList(
-            "tissue", "tissues", "napkin", "napkins", "toilet", "paper", "plastic", "bottle", "cup", "container",
-            "disposable", "wrapper", "packaging", "bag", "trash", "garbage"));
-
-    private static List<Item> foundItems = new ArrayList<>();
+    // words treated as the same term (each group is folded into its first word)
+    private static final List<List<String>> SYNONYMS = Arrays.asList(
+            Arrays.asList("phone", "cellphone", "smartphone", "mobile", "cp"),
+            Arrays.asList("earphone", "earbud", "headphone", "headset"),
+            Arrays.asList("backpack", "knapsack", "rucksack"),
+            Arrays.asList("tumbler", "flask", "bottle"),
+            Arrays.asList("umbrella", "payong"),
+            Arrays.asList("id", "identification"));
+    // text -> terms for items and queries alike (tokenize, stopwords, plurals, synonyms)
+    private static final Analyzer ANALYZER = Analyzer.standard(STOPWORDS, SYNONYMS);
+
+    // Items in arrival order; searches read immutable snapshots, mutations hold the
+    // mutationLog lock (single writer)
+    private static final ItemStore<Item> store = new ItemStore<>();
+    // item id (full or prefix) -> ordinal in the store
+    private static final IdIndex idIndex = new IdIndex();
+    // counters by status, category and found date, updated with every mutation
+    private static final ItemStatistics stats = new ItemStatistics();
+    // ordinal -> partition (ACTIVE items by category), so searches skip other items
+    private static final ItemPartitions partitions = new ItemPartitions(CATEGORIES);
+    private static final int AMBIGUOUS_ID_REPORT_LIMIT = 5; // ids listed for an ambiguous prefix
+    // normalized token <-> int id, shared by items and queries
+    private static final TokenDictionary TOKENS = new TokenDictionary();
+    // token -> ordinals of ACTIVE items containing it (kept in step with the store)
+    private static final InvertedIndex tokenIndex = new InvertedIndex();
+    // tokens of ACTIVE items by character trigram, to find stand-ins for misspelled words
+    private static final TrigramIndex TRIGRAMS = new TrigramIndex(TOKENS::token);
+    private static final double FUZZY_WEIGHT = 0.6; // a stand-in one edit away; halved per further edit
+    private static final int FUZZY_EXPANSIONS = 3; // stand-ins per misspelled word
+    // Optional approximate engine (MinHash + LSH); null until approximate search is enabled
+    private static volatile boolean APPROXIMATE_SEARCH = false;
+    private static int LSH_BANDS = 32;
+    private static int LSH_ROWS = 2;
+    private static volatile MinHashLsh lshIndex = null;
+    // Field-weighted BM25 statistics; null until the BM25 ranker is first selected
+    private static final double BM25_NAME_WEIGHT = 2.0;
+    private static final double BM25_DESCRIPTION_WEIGHT = 1.0;
+    private static final double BM25_LOCATION_WEIGHT = 0.5;
+    private static volatile Bm25Index bm25Index = null;
+    // guiSearchLostItem results; entries go stale when an item sharing a query token changes
+    private static final int SEARCH_CACHE_ENTRIES = 1024;
+    private static final long SEARCH_CACHE_CHARS = 8L << 20;
+    private static final SearchCache<String> SEARCH_CACHE = new SearchCache<>(SEARCH_CACHE_ENTRIES,
+            SEARCH_CACHE_CHARS, String::length);
+    // Mutations are appended here; the binary snapshot is rewritten only at checkpoints
+    private static final MutationLog<List<Item>> mutationLog = new MutationLog<>(Paths.get(MUTATION_LOG_FILE),
+            LostAndFoundSystem::snapshotItems, LostAndFoundSystem::writeSnapshot, CHECKPOINT_EVERY,
+            CHECKPOINT_INTERVAL_SECONDS);
+    // advanced only by writeSnapshot, which checkpoints never run concurrently; loading
+    // raises it to the newest generation found on disk
+    private static final java.util.concurrent.atomic.AtomicLong snapshotGeneration =
+            new java.util.concurrent.atomic.AtomicLong();
+    // REMOVED items leave the hot store at checkpoints (and at startup) and are paged in
+    // from here only for listings with removed items and id lookups
+    private static final ItemArchive archive = new ItemArchive(Paths.get(ARCHIVE_FILE),
+            Paths.get(ARCHIVE_INDEX_FILE));
+    // ordinals of hot REMOVED items already archived this session (guarded by archive)
+    private static final BitSet archivedOrdinals = new BitSet();
+    // Audit entries are queued and written in batches by a background thread
+    private static final int AUDIT_QUEUE_CAPACITY = 10_000;
+    private static final AuditLogger auditLogger = new AuditLogger(Paths.get(AUDIT_FILE), AUDIT_QUEUE_CAPACITY, 256,
+            1000);
 
     // Configuration methods
     public void setSearchThreshold(double threshold) {
@@ -81,6 +130,102 @@ public class LostAndFoundSystem {
         return SIMILARITY_THRESHOLD;
     }
 
+    /**
+     * Selects how matches are scored: JACCARD (shared words over all words) or BM25
+     * (rare words and words in the name count more). Both score in [0, 1] against the
+     * same threshold.
+     */
+    public void setRanker(Ranker ranker) {
+        if (ranker == null)
+            return;
+        if (ranker == Ranker.BM25 && bm25Index == null)
+            rebuildBm25Index();
+        RANKER = ranker;
+        SEARCH_CACHE.invalidateAll();
+    }
+
+    public Ranker getRanker() {
+        return RANKER;
+    }
+
+    /**
+     * Sets how often the mutation log is compacted into the snapshot file: after
+     * the given number of records or seconds, whichever comes first.
+     */
+    public void setCheckpointPolicy(int everyRecords, long intervalSeconds) {
+        mutationLog.setCheckpointPolicy(everyRecords, intervalSeconds);
+    }
+
+    /**
+     * Sets when queued audit entries are flushed to disk: once this many are
+     * pending or the oldest has waited this long, whichever comes first.
+     */
+    public void setAuditFlushPolicy(int everyEntries, long maxDelayMillis) {
+        auditLogger.setFlushPolicy(everyEntries, maxDelayMillis);
+    }
+
+    /**
+     * Switches candidate retrieval between the exact token index and MinHash/LSH
+     * buckets. Scores are still exact Jaccard; only the candidate set is approximate.
+     */
+    public void setApproximateSearch(boolean enabled) {
+        APPROXIMATE_SEARCH = enabled;
+        if (enabled && lshIndex == null)
+            rebuildLshIndex();
+        SEARCH_CACHE.invalidateAll();
+    }
+
+    public boolean isApproximateSearch() {
+        return APPROXIMATE_SEARCH;
+    }
+
+    /**
+     * Sets the LSH banding (signature length is bands * rows). More bands raise
+     * recall, more rows raise precision.
+     */
+    public void configureLsh(int bands, int rows) {
+        if (bands < 1 || rows < 1)
+            return;
+        LSH_BANDS = bands;
+        LSH_ROWS = rows;
+        if (lshIndex != null)
+            rebuildLshIndex();
+    }
+
+    // Builds the new engine completely before searches can see it
+    private static void rebuildLshIndex() {
+        synchronized (mutationLog) {
+            MinHashLsh engine = new MinHashLsh(LSH_BANDS, LSH_ROWS);
+            for (Item it : store.snapshot()) {
+                it.minHashSignature = engine.signature(it.getTokenIds());
+                if (it.status.equalsIgnoreCase("ACTIVE"))
+                    engine.add(it.ordinal, it.minHashSignature);
+            }
+            lshIndex = engine;
+            SEARCH_CACHE.invalidateAll();
+        }
+    }
+
+    // Built once on first use, then kept up to date by indexAdded/markAllRemoved
+    private static void rebuildBm25Index() {
+        synchronized (mutationLog) {
+            Bm25Index index = new Bm25Index(BM25_NAME_WEIGHT, BM25_DESCRIPTION_WEIGHT, BM25_LOCATION_WEIGHT);
+            for (Item it : store.snapshot()) {
+                if (it.status.equalsIgnoreCase("ACTIVE"))
+                    addToBm25(index, it);
+            }
+            bm25Index = index;
+            SEARCH_CACHE.invalidateAll();
+        }
+    }
+
+    // Indexes the item's fields separately; true if the collection statistics moved
+    private static boolean addToBm25(Bm25Index index, Item it) {
+        return index.add(it.ordinal, TOKENS.internAll(preprocessToSet(it.getName())),
+                TOKENS.internAll(preprocessToSet(it.getDescription())),
+                TOKENS.internAll(preprocessToSet(it.getLocation())));
+    }
+
     public static void main(String[] args) {
         Scanner sc = new Scanner(System.in);
         log("SYSTEM", "Starting LostAndFoundSystem");
@@ -108,7 +253,9 @@ public class LostAndFoundSystem {
                     break;
                 case "6":
                     System.out.println("Exiting system...");
+                    mutationLog.close();
                     log("SYSTEM", "Exiting LostAndFoundSystem");
+                    auditLogger.close();
                     running = false;
                     break;
                 default:
@@ -170,19 +317,23 @@ public class LostAndFoundSystem {
 
         LocalDate dateFound = LocalDate.now();
 
-        Item item = new Item(UUID.randomUUID().toString(), name, description, category, dateFound, location, contact,
-                estimatedValue, perishable, "ACTIVE", LocalDateTime.now());
+        String id = UUID.randomUUID().toString();
 
-        // Qualification check:
-        if (!qualifyItem(item)) {
+        // Qualification check, on the fields: only accepted items intern their tokens
+        QualificationResult qualification = QUALIFIER.evaluate(name, description, location, contact, estimatedValue,
+                perishable);
+        System.out.print(qualification.render());
+        if (!qualification.isAccepted()) {
             System.out.println("Item did not meet qualification criteria and was not accepted.");
-            log("QUALIFY-REJECT", item.summaryForLog());
+            log("QUALIFY-REJECT",
+                    Item.summaryForLog(id, name, category, location, estimatedValue, perishable, "ACTIVE"));
             return;
         }
 
         // Preprocess tokens are computed inside Item constructor helper
-        foundItems.add(item);
-        saveItemsToFile();
+        Item item = new Item(id, name, description, category, dateFound, location, contact, estimatedValue,
+                perishable, "ACTIVE", LocalDateTime.now());
+        storeNewItem(item);
         log("ADD-FOUND", item.summaryForLog());
         System.out.println("Item accepted and saved. ID: " + item.id);
     }
@@ -198,150 +349,6 @@ public class LostAndFoundSystem {
         return v;
     }
 
-    private static boolean qualifyItem(Item item) {
-        System.out.println("=== ITEM QUALIFICATION CRITERIA CHECK ===");
-
-        // 1. Basic required field checks
-        if (item.name.isEmpty() || item.description.isEmpty()) {
-            System.out.println("[REJECTED] Name and description are required.");
-            return false;
-        }
-        if (item.location.isEmpty()) {
-            System.out.println("[REJECTED] Location is required.");
-            return false;
-        }
-        if (item.contact.isEmpty()) {
-            System.out.println("[REJECTED] Reporter contact is required.");
-            return false;
-        }
-
-        // 2. Contact validation
-        if (!(item.contact.matches(".*\\\\d.*") || item.contact.contains("@"))) {
-            System.out.println("[REJECTED] Contact seems invalid. Provide phone number or email.");
-            return false;
-        }
-
-        // 3. Location validation - allows free-form entries (e.g., "GEB-205", "STC-3F")
-        if (!isValidInstitutionLocation(item.location)) {
-            System.out.println("[REJECTED] Location is required and cannot be empty.");
-            return false;
-        }
-
-        // 4. Exclusion check - food, beverages, disposables
-        if (isExcludedItem(item.name, item.description)) {
-            System.out.println("[REJECTED] Item is explicitly excluded (food, beverages, or disposable items).");
-            System.out.println("   Excluded: Food, drinks, tissues, plastic bottles, disposable containers, etc.");
-            return false;
-        }
-
-        // 5. Tangible and storable check
-        if (!isTangibleAndStorable(item.name, item.description)) {
-            System.out.println("[REJECTED] Item must be tangible and capable of being stored.");
-            System.out.println("   Digital/virtual items are not acceptable.");
-            return false;
-        }
-
-        // 6. Personal or movable object check
-        if (!isPersonalOrMovableItem(item.name, item.description)) {
-            System.out.println("[REJECTED] Only personal or movable objects are acceptable.");
-            System.out.println("   Acceptable: handbags, wallets, phones, books, accessories, clothing, etc.");
-            return false;
-        }
-
-        // 7. Value and importance check
-        if (!hasSufficientValue(item.name, item.description, item.estimatedValue)) {
-            System.out.printf("[REJECTED] Item lacks sufficient value (%.2f PHP) or importance.\n",
-                    item.estimatedValue);
-            System.out.printf("   Minimum value threshold: %.2f PHP or must contain valuable keywords.\n", MIN_VALUE);
-            System.out.println("   Valuable items: phones, laptops, wallets, keys, jewelry, identification, etc.");
-            return false;
-        }
-
-        // 8. Perishability check - if marked perishable and low value, reject
-        if (item.perishable && item.estimatedValue < PERISHABLE_MIN_VALUE) {
-            System.out.printf("[REJECTED] Perishable item with low value (%.2f PHP).\n", item.estimatedValue);
-            System.out.printf("   Perishable items must have minimum value of %.2f PHP.\n", PERISHABLE_MIN_VALUE);
-            return false;
-        }
-
-        System.out.println("[ACCEPTED] Item meets all qualification criteria.");
-        System.out.printf("   - Personal/movable object: PASS\n");
-        System.out.printf("   - Institution location: PASS\n");
-        System.out.printf("   - Tangible and storable: PASS\n");
-        System.out.printf("   - Sufficient value/importance: PASS (%.2f PHP)\n", item.estimatedValue);
-        System.out.printf("   - Not excluded category: PASS\n");
-
-        return true;
-    }
-
-    private static boolean containsKeyword(String text, Set<String> keywords) {
-        String lower = text.toLowerCase();
-        for (String k : keywords) {
-            if (lower.contains(k))
-                return true;
-        }
-        return false;
-    }
-
-    /**
-     * Validates if the location is non-empty (allows free-form campus locations)
-     */
-    private static boolean isValidInstitutionLocation(String location) {
-        // Allow any non-empty location - users can enter classroom names with building
-        // prefixes
-        return location != null && !location.trim().isEmpty();
-    }
-
-    /**
-     * Determines if an item is a personal or movable object based on keywords
-     */
-    private static boolean isPersonalOrMovableItem(String name, String description) {
-        String combinedText = (name + " " + description).toLowerCase();
-        return containsKeyword(combinedText, ACCEPTABLE_KEYWORDS);
-    }
-
-    /**
-     * Checks if an item is explicitly excluded (food, beverages, disposables)
-     */
-    private static boolean isExcludedItem(String name, String description) {
-        String combinedText = (name + " " + description).toLowerCase();
-        return containsKeyword(combinedText, EXCLUDED_KEYWORDS) ||
-                containsKeyword(combinedText, DISPOSABLE_KEYWORDS);
-    }
-
-    /**
-     * Validates if an item meets the tangible and storable criteria
-     */
-    private static boolean isTangibleAndStorable(String name, String description) {
-        String combinedText = (name + " " + description).toLowerCase();
-
-        // Items that are clearly not tangible or storable
-        Set<String> nonTangibleKeywords = new HashSet<>(Arrays.asList(
-                "digital", "virtual", "online", "software", "app", "data", "file", "memory",
-                "cloud", "streaming", "download", "electronic", "email", "message"));
-
-        return !containsKeyword(combinedText, nonTangibleKeywords);
-    }
-
-    /**
-     * Validates if an item has sufficient value or importance to be worth tracking
-     */
-    private static boolean hasSufficientValue(String name, String description, double estimatedValue) {
-        // High-value threshold for automatic acceptance
-        if (estimatedValue >= MIN_VALUE)
-            return true;
-
-        // Check for valuable keywords that indicate importance regardless of estimated
-        // value
-        String combinedText = (name + " " + description).toLowerCase();
-        Set<String> highValueKeywords = new HashSet<>(Arrays.asList(
-                "passport", "license", "id", "identification", "credit", "card", "debit",
-                "phone", "cellphone", "laptop", "tablet", "watch", "jewelry", "ring",
-                "keys", "key", "wallet", "purse", "handbag", "backpack", "briefcase"));
-
-        return containsKeyword(combinedText, highValueKeywords);
-    }
-
     /**
      * Displays the complete qualification criteria for the Lost and Found system
      */
@@ -415,15 +422,14 @@ public class LostAndFoundSystem {
         }
 
         // Preprocess query tokens
-        Set<String> queryTokens = preprocessToSet(queryText);
+        Query query = parseQuery(queryText);
 
-        // Score against all active found items
+        // Score against active found items sharing at least one token with the query
         List<Match> matches = new ArrayList<>();
-        for (Item it : foundItems) {
+        for (Item it : searchCandidates(query.lookupIds(), partitions.all())) {
             if (!it.status.equalsIgnoreCase("ACTIVE"))
                 continue;
-            Set<String> itemTokens = it.getTokenSet();
-            double score = jaccard(queryTokens, itemTokens);
+            double score = query.score(it, null);
             if (score >= SIMILARITY_THRESHOLD) {
                 matches.add(new Match(it, score));
             }
@@ -444,8 +450,8 @@ public class LostAndFoundSystem {
                 System.out.println("--------------------------------------------");
                 System.out.printf(
                         "ID: %s\nName: %s\nDescription: %s\nDate Found: %s\nLocation: %s\nContact: %s\nEstimated Value: %.2f\nPerishable: %s\nSimilarity: %.2f%%\nStatus: %s\n",
-                        it.id, it.name, it.description, it.dateFound.format(DateTimeFormatter.ISO_LOCAL_DATE),
-                        it.location, it.contact, it.estimatedValue, it.perishable ? "Yes" : "No", m.score * 100.0,
+                        it.id, it.getName(), it.getDescription(), it.dateFound.format(DateTimeFormatter.ISO_LOCAL_DATE),
+                        it.getLocation(), it.getContact(), it.estimatedValue, it.perishable ? "Yes" : "No", m.score * 100.0,
                         it.status);
             }
             System.out.println("--------------------------------------------");
@@ -465,213 +471,966 @@ public class LostAndFoundSystem {
         System.out.println("\nMaintenance - Remove (mark inactive) an item");
         System.out.print("Enter item ID to remove: ");
         String id = sc.nextLine().trim();
-        Optional<Item> opt = foundItems.stream().filter(i -> i.id.equals(id)).findFirst();
-        if (!opt.isPresent()) {
-            System.out.println("Item not found.");
+        int[] matches = idIndex.resolve(id, AMBIGUOUS_ID_REPORT_LIMIT + 1);
+        if (matches.length == 0) {
+            System.out.println(notFoundMessage(id));
+            return;
+        }
+        if (matches.length > 1) {
+            System.out.println(ambiguousIdMessage(id, matches));
             return;
         }
-        Item it = opt.get();
-        it.status = "REMOVED";
-        saveItemsToFile();
+        Item it = storeRemoval(store.snapshot().get(matches[0]));
         log("REMOVE", it.summaryForLog());
         System.out.println("Item marked REMOVED: " + id);
     }
 
     // Storage: load & save (step 4)
+    // The newest binary snapshot holds the last checkpoint; mutations since then are
+    // replayed from the mutation log. Without a snapshot (older versions) the text
+    // store is imported instead and becomes the first snapshot at the next checkpoint.
+    // REMOVED items found in either are moved to the archive rather than loaded, and
+    // items the archive already has are skipped (an interrupted checkpoint may have
+    // archived them without writing the snapshot that drops them).
     private static void loadItemsFromFile() {
+        Path snapshot = latestSnapshot();
         Path p = Paths.get(STORAGE_FILE);
-        if (!Files.exists(p)) {
-            System.out.println("No storage file found. Starting with empty dataset.");
+        boolean loaded = false;
+        synchronized (mutationLog) {
+            try {
+                archive.open();
+            } catch (IOException e) {
+                System.err.println("Error opening item archive: " + e.getMessage());
+            }
+            if (snapshot != null) {
+                try {
+                    addFoundItems(withoutArchived(readSnapshot(snapshot), snapshotGenerationOf(snapshot)));
+                    loaded = true;
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Error reading snapshot " + snapshot + ": " + e.getMessage());
+                }
+            }
+            if (!loaded && Files.exists(p)) {
+                List<Item> items = new ArrayList<>();
+                readTextStore(p, items::add);
+                addFoundItems(withoutArchived(items, -1));
+                loaded = true;
+            }
+            if (!loaded)
+                System.out.println("No storage file found. Starting with empty dataset.");
+            replayMutationLog();
+        }
+        if (loaded || store.size() > 0)
+            System.out.println("Loaded " + store.size() + " items from storage.");
+    }
+
+    // Parses the ||-delimited text format, skipping malformed lines. Large files are
+    // split into newline-aligned ranges and parsed on the common ForkJoinPool; items
+    // reach the sink in file order either way.
+    private static void readTextStore(Path p, java.util.function.Consumer<Item> sink) {
+        ParallelStoreLoader<Item> loader = new ParallelStoreLoader<>(Item::fromLine,
+                java.util.concurrent.ForkJoinPool.commonPool(), LOAD_CHUNK_BYTES);
+        ParallelStoreLoader.Result<Item> result;
+        try {
+            result = loader.load(p);
+        } catch (java.nio.charset.CharacterCodingException e) {
+            readTextStoreSequential(p, sink); // keeps the lines before the bad bytes
+            return;
+        } catch (IOException e) {
+            System.err.println("Error reading storage file: " + e.getMessage());
             return;
         }
+        long t0 = System.nanoTime();
+        for (Item it : result.items)
+            sink.accept(it);
+        long indexNanos = System.nanoTime() - t0;
+        System.out.printf("Load phases: split %.1f ms, parse %.1f ms (%d chunks), merge %.1f ms, index %.1f ms%n",
+                result.splitNanos / 1e6, result.parseNanos / 1e6, result.chunks, result.mergeNanos / 1e6,
+                indexNanos / 1e6);
+    }
+
+    // Items of a store written at the given snapshot generation (-1 for the text store)
+    // that belong in the hot store: REMOVED ones are archived (kept if that fails) and
+    // ones already archived are dropped. The archive is only searched when it is newer
+    // than the store, so a normal start reads nothing from it.
+    private static List<Item> withoutArchived(List<Item> items, long generation) {
+        List<Item> loaded = new ArrayList<>(items.size());
+        List<Item> removed = new ArrayList<>();
+        boolean check = archive.generation() > generation;
+        for (Item it : items) {
+            if (check && isArchived(it.id))
+                continue;
+            loaded.add(it);
+            if (it.status.equals("REMOVED"))
+                removed.add(it);
+        }
+        if (removed.isEmpty())
+            return loaded;
+        try {
+            int added = archiveItems(removed, Math.max(generation, 0));
+            if (added > 0)
+                System.out.println("Archived " + added + " removed items.");
+            loaded.removeIf(it -> it.status.equals("REMOVED"));
+        } catch (IOException e) {
+            System.err.println("Error archiving removed items: " + e.getMessage());
+        }
+        return loaded;
+    }
+
+    private static int archiveItems(List<Item> items, long generation) throws IOException {
+        List<String> ids = new ArrayList<>(items.size());
+        List<String> lines = new ArrayList<>(items.size());
+        for (Item it : items) {
+            ids.add(it.id);
+            lines.add(it.toLine());
+        }
+        return archive.archive(ids, lines, generation);
+    }
+
+    // Whether the id belongs to an archived (REMOVED) item
+    private static boolean isArchived(String id) {
+        try {
+            return archive.size() > 0 && archive.contains(id);
+        } catch (IOException e) {
+            System.err.println("Error reading item archive: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Archived items no longer in the hot store, in archive order, with their record
+    // offsets (an item removed this session stays hot until the next start)
+    private static void forEachArchived(java.util.function.ObjLongConsumer<Item> consumer) {
+        try {
+            archive.forEach((line, offset) -> {
+                int end = line.indexOf(DELIM);
+                if (end > 0 && idIndex.get(line.substring(0, end)) < 0)
+                    consumer.accept(Item.fromArchiveLine(line), offset);
+            });
+        } catch (IOException e) {
+            System.err.println("Error reading item archive: " + e.getMessage());
+        }
+    }
+
+    private static Item archivedItem(long offset) {
+        try {
+            return Item.fromArchiveLine(archive.read(offset));
+        } catch (IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        }
+    }
+
+    private static void readTextStoreSequential(Path p, java.util.function.Consumer<Item> sink) {
         try (BufferedReader r = Files.newBufferedReader(p)) {
             String line;
             while ((line = r.readLine()) != null) {
                 if (line.trim().isEmpty())
                     continue;
+                Item it;
                 try {
-                    Item it = Item.fromLine(line);
-                    foundItems.add(it);
+                    it = Item.fromLine(line);
                 } catch (Exception e) {
                     System.err.println("Skipping malformed line: " + line);
+                    continue;
                 }
+                sink.accept(it);
             }
-            System.out.println("Loaded " + foundItems.size() + " items from storage.");
         } catch (IOException e) {
             System.err.println("Error reading storage file: " + e.getMessage());
         }
     }
 
-    private static void saveItemsToFile() {
-        // Create backup before saving
-        Path p = Paths.get(STORAGE_FILE);
-        Path backup = Paths.get("items_store.bak");
-
-        // Backup existing file if it exists
-        if (Files.exists(p)) {
-            try {
-                Files.copy(p, backup, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-            } catch (IOException e) {
-                System.err.println("Warning: Could not create backup: " + e.getMessage());
+    // Maps a snapshot; only ids, fixed-width columns and token ids are read up front
+    private static List<Item> readSnapshot(Path file) throws IOException {
+        BinarySnapshot.Reader reader = BinarySnapshot.open(file);
+        // ids built by another analyzer version are outdated; derive them again from the text
+        boolean reanalyze = reader.analyzer != ANALYZER.fingerprint();
+        if (reanalyze)
+            System.out.println("Snapshot terms are outdated, re-analyzing " + reader.count + " items.");
+        int[] remap = new int[reanalyze ? 0 : reader.tokenCount];
+        for (int t = 0; t < remap.length; t++)
+            remap[t] = TOKENS.intern(reader.token(t));
+        List<Item> items = new ArrayList<>(reader.count);
+        for (int row = 0; row < reader.count; row++) {
+            int[] ids;
+            if (reader.status(row).equals("REMOVED")) {
+                ids = new int[0]; // headed for the archive, never indexed
+            } else if (reanalyze) {
+                ids = TOKENS.internAll(preprocessToSet(reader.text(row, BinarySnapshot.F_NAME) + " "
+                        + reader.text(row, BinarySnapshot.F_DESCRIPTION)));
+            } else {
+                ids = reader.tokenIds(row);
+                for (int i = 0; i < ids.length; i++)
+                    ids[i] = remap[ids[i]];
+                Arrays.sort(ids);
             }
+            items.add(new Item(reader, row, reader.text(row, BinarySnapshot.F_ID), ids));
         }
+        snapshotGeneration.accumulateAndGet(snapshotGenerationOf(file), Math::max);
+        return items;
+    }
 
-        try (BufferedWriter w = Files.newBufferedWriter(p, StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING)) {
-            for (Item it : foundItems) {
-                w.write(it.toLine());
-                w.newLine();
+    private static Path latestSnapshot() {
+        Path latest = null;
+        long best = -1;
+        try (java.util.stream.Stream<Path> files = Files.list(Paths.get("."))) {
+            for (Path f : (Iterable<Path>) files::iterator) {
+                long gen = snapshotGenerationOf(f);
+                if (gen > best) {
+                    best = gen;
+                    latest = f;
+                }
             }
         } catch (IOException e) {
-            System.err.println("Error saving to storage: " + e.getMessage());
+            System.err.println("Error listing snapshots: " + e.getMessage());
         }
+        return latest;
     }
 
-    // Logging (simple audit log)
-    private static void log(String action, String message) {
-        String entry = String.format("%s %s | %s", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
-                action, message);
-        try (BufferedWriter w = Files.newBufferedWriter(Paths.get(AUDIT_FILE), StandardOpenOption.CREATE,
-                StandardOpenOption.APPEND)) {
-            w.write(entry);
-            w.newLine();
-        } catch (IOException e) {
-            // fallback to stdout
-            System.out.println("LOG-ERR: " + entry);
-        }
-    }
-
-    // Text normalization (step 2)
-    private static Set<String> preprocessToSet(String text) {
-        if (text == null)
-            return Collections.emptySet();
-        String normalized = text.toLowerCase();
-        // remove punctuation except digits and letters -> replace with space
-        normalized = normalized.replaceAll("[^a-z0-9\\s]", " ");
-        String[] words = normalized.split("\\s+");
-        Set<String> tokens = new HashSet<>();
-        for (String w : words) {
-            w = w.trim();
-            if (w.isEmpty())
-                continue;
-            if (STOPWORDS.contains(w))
-                continue;
-            tokens.add(w);
+    // items_store.<generation>.snap -> generation, anything else -> -1
+    private static long snapshotGenerationOf(Path f) {
+        String name = f.getFileName().toString();
+        if (!name.startsWith(SNAPSHOT_PREFIX) || !name.endsWith(SNAPSHOT_SUFFIX))
+            return -1;
+        try {
+            return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
         }
-        return tokens;
     }
 
-    // Similarity (Jaccard) (step 5)
-    private static double jaccard(Set<String> a, Set<String> b) {
-        if ((a == null || a.isEmpty()) && (b == null || b.isEmpty()))
-            return 0.0;
-        Set<String> intersection = new HashSet<>(a);
-        intersection.retainAll(b);
-        Set<String> union = new HashSet<>(a);
-        union.addAll(b);
-        if (union.isEmpty())
-            return 0.0;
-        return (double) intersection.size() / (double) union.size();
+    private static Path snapshotPath(long generation) {
+        return Paths.get(SNAPSHOT_PREFIX + generation + SNAPSHOT_SUFFIX);
     }
 
-    // List found items (helper)
-    private static void listFoundItems() {
-        System.out.println("\nFound items (all):");
-        if (foundItems.isEmpty()) {
-            System.out.println("(no items)");
-            return;
-        }
-        for (Item it : foundItems) {
-            System.out.printf("ID: %s | Name: %s | Date: %s | Location: %s | Status: %s\n",
-                    it.id, truncate(it.name, 30), it.dateFound.format(DateTimeFormatter.ISO_LOCAL_DATE),
-                    truncate(it.location, 25), it.status);
-        }
+    // Replay is idempotent: records already folded into the snapshot are no-ops
+    private static void replayMutationLog() {
+        mutationLog.replay(record -> {
+            if (record.startsWith(MutationLog.ADD + DELIM)) {
+                Item it = Item.fromLine(record.substring(MutationLog.ADD.length() + DELIM.length()));
+                if (idIndex.get(it.id) < 0 && !isArchived(it.id))
+                    addFoundItem(it);
+            } else if (record.startsWith(MutationLog.STATUS + DELIM)) {
+                String[] parts = record.split(Pattern.quote(DELIM), -1);
+                int ordinal = idIndex.get(parts[1]);
+                if (ordinal >= 0 && parts[2].equals("REMOVED"))
+                    markRemoved(store.snapshot().get(ordinal));
+            } else if (record.startsWith(MutationLog.STATUSES + DELIM)) {
+                markAllRemoved(currentItems(removedIds(record)));
+            } else {
+                throw new IllegalArgumentException("Unknown record");
+            }
+        });
     }
 
-    // Utility classes
-
-    private static class Match {
-        Item item;
-        double score;
+    /**
+     * Ids a STATUSES||status||count||id1||... record marks REMOVED (none for any other
+     * status).
+     *
+     * @throws IllegalArgumentException if the record does not hold count ids (e.g. torn)
+     */
+    static List<String> removedIds(String record) {
+        String[] parts = record.split(Pattern.quote(DELIM), -1);
+        int count = Integer.parseInt(parts[2]);
+        if (parts.length != 3 + count)
+            throw new IllegalArgumentException("Incomplete batch");
+        if (!parts[1].equals("REMOVED"))
+            return java.util.Collections.emptyList();
+        return Arrays.asList(parts).subList(3, parts.length);
+    }
 
-        Match(Item i, double s) {
-            item = i;
-            score = s;
+    // Mutations: apply in memory and append to the mutation log under one lock so a
+    // checkpoint never sees one without the other
+    private static void storeNewItem(Item item) {
+        synchronized (mutationLog) {
+            addFoundItem(item);
+            mutationLog.append(MutationLog.ADD + DELIM + item.toLine());
         }
     }
 
-    private static class Item {
-        String id;
-        String name;
-        String description;
-        String category; // NEW: Item category
-        LocalDate dateFound;
-        String location;
-        String contact;
-        double estimatedValue;
-        boolean perishable;
-        String status; // ACTIVE or REMOVED
-        LocalDateTime createdAt;
-
-        // cached token set for efficient similarity
-        private transient Set<String> tokenSet = null;
+    // Bulk import commit: one writer-lock hold and one store version for all items, and
+    // their log records are written with a single flush
+    private static void storeNewItems(List<Item> items) {
+        synchronized (mutationLog) {
+            addFoundItems(items);
+            mutationLog.appendAll(() -> items.stream().map(it -> MutationLog.ADD + DELIM + it.toLine()).iterator());
+        }
+        List<String> lines = new ArrayList<>(items.size());
+        for (Item it : items)
+            lines.add(it.summaryForLog());
+        auditLogger.logAll("ADD-FOUND", lines); // one queue entry and timestamp for the import
+    }
 
-        Item(String id, String name, String description, String category, LocalDate dateFound, String location,
-                String contact, double estimatedValue, boolean perishable, String status, LocalDateTime createdAt) {
-            this.id = id;
-            this.name = name;
-            this.description = description;
-            this.category = category != null ? category : "Others";
-            this.dateFound = dateFound;
-            this.location = location;
-            this.contact = contact;
-            this.estimatedValue = estimatedValue;
-            this.perishable = perishable;
-            this.status = status;
-            this.createdAt = createdAt;
-            this.tokenSet = preprocessToSet(name + " " + description);
+    /**
+     * Marks the items with the given full ids REMOVED as one change: the store, the
+     * mutation log (a single record) and the audit log (a single batch) each see all
+     * removals at once. Unknown ids and items already REMOVED are skipped; returns the
+     * number of items removed.
+     */
+    public int removeItems(java.util.Collection<String> ids) {
+        List<Item> removed;
+        synchronized (mutationLog) {
+            removed = markAllRemoved(currentItems(ids));
+            if (removed.isEmpty())
+                return 0;
+            StringBuilder record = new StringBuilder(MutationLog.STATUSES).append(DELIM).append("REMOVED")
+                    .append(DELIM).append(removed.size());
+            for (Item it : removed)
+                record.append(DELIM).append(it.id);
+            mutationLog.append(record.toString());
         }
+        List<String> lines = new ArrayList<>(removed.size());
+        for (Item it : removed)
+            lines.add(it.summaryForLog());
+        auditLogger.logAll("REMOVE", lines);
+        return removed.size();
+    }
 
-        Set<String> getTokenSet() {
-            if (tokenSet == null)
-                tokenSet = preprocessToSet(name + " " + description);
-            return tokenSet;
+    // Current version of each listed item that is not REMOVED yet (ids in order, no repeats)
+    private static List<Item> currentItems(java.util.Collection<String> ids) {
+        ItemStore.Snapshot<Item> items = store.snapshot();
+        Set<Integer> seen = new HashSet<>();
+        List<Item> result = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            int ordinal = idIndex.get(id);
+            if (ordinal < 0 || !seen.add(ordinal))
+                continue;
+            Item it = items.get(ordinal);
+            if (!it.status.equals("REMOVED"))
+                result.add(it);
         }
+        return result;
+    }
 
-        String toLine() {
-            StringBuilder sb = new StringBuilder();
-            sb.append(id).append(DELIM)
-                    .append(clean(name)).append(DELIM)
-                    .append(clean(description)).append(DELIM)
-                    .append(clean(category)).append(DELIM) // NEW: category field
-                    .append(dateFound.format(DateTimeFormatter.ISO_LOCAL_DATE)).append(DELIM)
-                    .append(clean(location)).append(DELIM)
-                    .append(clean(contact)).append(DELIM)
-                    .append(estimatedValue).append(DELIM)
-                    .append(perishable).append(DELIM)
-                    .append(status).append(DELIM)
-                    .append(createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-            return sb.toString();
+    // Returns the item as stored after the change
+    private static Item storeRemoval(Item item) {
+        synchronized (mutationLog) {
+            Item removed = markRemoved(item);
+            mutationLog.append(MutationLog.STATUS + DELIM + removed.id + DELIM + removed.status);
+            return removed;
         }
+    }
 
-        private static String clean(String s) {
-            if (s == null)
-                return "";
-            return s.replace(DELIM, " ").replaceAll("\\r?\\n", " ");
+    // Called by the checkpoint thread with the mutation log's lock held; the snapshot
+    // is immutable, so nothing is copied
+    private static List<Item> snapshotItems() {
+        return store.snapshot();
+    }
+
+    // Checkpoint writer: a new snapshot generation; the previous one is kept as backup.
+    // Runs under the mutation log's checkpoint lock, so generations never collide.
+    // Older generations are deleted once nothing maps them (may be retried next time).
+    // REMOVED items are archived first and left out of the snapshot; they stay in memory
+    // until the next start. If the archive fails they are written to the snapshot as before.
+    private static boolean writeSnapshot(List<Item> items) {
+        long generation = snapshotGeneration.get() + 1;
+        Path tmp = Paths.get(SNAPSHOT_PREFIX + "snap.tmp");
+        List<Item> hot = items;
+        synchronized (archive) {
+            List<Item> removed = new ArrayList<>();
+            List<Item> kept = new ArrayList<>(items.size());
+            for (Item it : items)
+                (it.status.equals("REMOVED") ? removed : kept).add(it);
+            removed.removeIf(it -> archivedOrdinals.get(it.ordinal));
+            try {
+                if (!removed.isEmpty())
+                    archiveItems(removed, generation);
+                for (Item it : removed)
+                    archivedOrdinals.set(it.ordinal);
+                hot = kept;
+            } catch (IOException e) {
+                System.err.println("Error archiving removed items: " + e.getMessage());
+            }
+        }
+        try {
+            BinarySnapshot.write(tmp, hot, TOKENS, ANALYZER.fingerprint());
+            Files.move(tmp, snapshotPath(generation), java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+                    java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Error saving snapshot: " + e.getMessage());
+            return false;
+        }
+        snapshotGeneration.set(generation);
+        try (java.util.stream.Stream<Path> files = Files.list(Paths.get("."))) {
+            for (Path f : (Iterable<Path>) files::iterator) {
+                long gen = snapshotGenerationOf(f);
+                if (gen >= 0 && gen < generation - 1)
+                    Files.deleteIfExists(f);
+            }
+        } catch (IOException e) {
+            // still mapped (Windows) or locked; the next checkpoint tries again
         }
+        return true;
+    }
 
-        static Item fromLine(String line) {
-            String[] parts = line.split(Pattern.quote(DELIM), -1);
+    /**
+     * Writes the whole store in the ||-delimited text format (items_store.txt by
+     * default, with the previous copy kept as items_store.bak). Archived items are not
+     * included.
+     */
+    public boolean exportTextSnapshot() {
+        return exportTextSnapshot(STORAGE_FILE);
+    }
 
-            // Support old format (10 parts) and new format (11 parts with category)
-            if (parts.length < 10)
-                throw new IllegalArgumentException("Invalid line");
+    public boolean exportTextSnapshot(String file) {
+        List<Item> items;
+        synchronized (mutationLog) {
+            items = snapshotItems();
+        }
+        Path backup = file.equals(STORAGE_FILE) ? Paths.get(BACKUP_FILE) : null;
+        return saveItemsToFile(Paths.get(file), backup, items);
+    }
 
-            String id = parts[0];
-            String name = parts[1];
-            String description = parts[2];
+    /**
+     * Imports items from a text-format store. Items whose ID is already present
+     * (stored or archived) are skipped; returns the number of items added.
+     */
+    public int importTextSnapshot(String file) {
+        int[] added = { 0 };
+        readTextStore(Paths.get(file), it -> {
+            if (idIndex.get(it.id) < 0 && !isArchived(it.id)) {
+                storeNewItem(it);
+                added[0]++;
+            }
+        });
+        return added[0];
+    }
 
-            String category;
+    /**
+     * Imports found items from a CSV file with a header row (name, description,
+     * category, location, dateFound, estimatedValue, perishable, contact) or a JSONL
+     * file with the same keys. Every row is qualified like a single submission and the
+     * accepted items are stored in one commit; the per-row report goes to
+     * &lt;file&gt;.report.csv. Returns a summary including throughput.
+     */
+    public String guiImportFoundItems(String file) {
+        Path input = Paths.get(file);
+        Path report = input.resolveSibling(input.getFileName() + ".report.csv");
+        BulkImporter importer = new BulkImporter(QUALIFIER, java.util.concurrent.ForkJoinPool.commonPool(),
+                LostAndFoundSystem::storeNewItems);
+        try {
+            BulkImporter.Result result = importer.importFile(input, report);
+            log("IMPORT", String.format("File=%s Rows=%d Accepted=%d Rejected=%d Malformed=%d", input,
+                    result.rows, result.accepted, result.rejected, result.malformed));
+            return result.render();
+        } catch (java.nio.file.NoSuchFileException e) {
+            return "Import failed: file not found: " + file;
+        } catch (IOException | java.io.UncheckedIOException e) {
+            return "Import failed: " + e.getMessage();
+        }
+    }
+
+    // Runtime storage helpers: every mutation goes through these so the token
+    // index never drifts from the store. Callers hold the mutationLog lock. An item is
+    // published in the store before it is indexed, so any ordinal a search gets from an
+    // index is already in the next store snapshot.
+    private static void addFoundItem(Item item) {
+        item.ordinal = store.size();
+        store.append(item);
+        indexAdded(item);
+    }
+
+    // Bulk variant: the whole batch becomes visible as one store version
+    private static void addFoundItems(List<Item> items) {
+        int ordinal = store.size();
+        for (Item it : items)
+            it.ordinal = ordinal++;
+        store.appendAll(items);
+        for (Item it : items)
+            indexAdded(it);
+    }
+
+    /**
+     * Adds items to the in-memory store and indexes without logging them, so they are
+     * not persisted before the next checkpoint (benchmarks and tools populating a store).
+     */
+    static void loadItems(List<Item> items) {
+        synchronized (mutationLog) {
+            addFoundItems(items);
+        }
+    }
+
+    private static void indexAdded(Item item) {
+        idIndex.add(item.id, item.ordinal);
+        stats.added(item);
+        partitions.set(item.ordinal, item.status, item.getCategory());
+        if (item.status.equalsIgnoreCase("ACTIVE")) {
+            // ranking data first: a search may score the item once the token index has it
+            Bm25Index bm25 = bm25Index;
+            if (bm25 != null && addToBm25(bm25, item))
+                SEARCH_CACHE.invalidateAll();
+            tokenIndex.add(item.ordinal, item.getTokenIds());
+            for (int t : item.getTokenIds())
+                TRIGRAMS.add(t, TOKENS.token(t));
+            if (lshIndex != null)
+                lshIndex.add(item.ordinal, item.getMinHashSignature());
+            SEARCH_CACHE.tokensChanged(item.getTokenIds());
+            if (bm25 != null)
+                SEARCH_CACHE.tokensChanged(bm25.tokens(item.ordinal)); // location words too
+        }
+    }
+
+    // Replaces the stored item with a REMOVED copy (items are never changed in place,
+    // so concurrent readers see either the old or the new version) and returns it
+    private static Item markRemoved(Item item) {
+        Item current = store.snapshot().get(item.ordinal);
+        if (current.status.equals("REMOVED"))
+            return current;
+        return markAllRemoved(Collections.singletonList(current)).get(0);
+    }
+
+    // Publishes REMOVED copies of the given current items as one store version, then
+    // drops them from the indexes (searches skip non-ACTIVE items in between)
+    private static List<Item> markAllRemoved(List<Item> current) {
+        int[] ordinals = new int[current.size()];
+        List<Item> removed = new ArrayList<>(current.size());
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = current.get(i).ordinal;
+            removed.add(current.get(i).withStatus("REMOVED"));
+        }
+        store.setAll(ordinals, removed);
+        for (int i = 0; i < ordinals.length; i++) {
+            Item before = current.get(i);
+            partitions.set(before.ordinal, removed.get(i).status, before.getCategory());
+            if (before.status.equalsIgnoreCase("ACTIVE")) {
+                tokenIndex.remove(before.ordinal, before.getTokenIds());
+                if (lshIndex != null)
+                    lshIndex.remove(before.ordinal, before.getMinHashSignature());
+                SEARCH_CACHE.tokensChanged(before.getTokenIds());
+                Bm25Index bm25 = bm25Index;
+                if (bm25 != null) {
+                    int[] fieldTokens = bm25.tokens(before.ordinal);
+                    if (bm25.remove(before.ordinal))
+                        SEARCH_CACHE.invalidateAll();
+                    SEARCH_CACHE.tokensChanged(fieldTokens);
+                }
+            }
+            stats.replaced(before, removed.get(i));
+        }
+        return removed;
+    }
+
+    /**
+     * Items worth scoring for a query, in storage order: ACTIVE items of the
+     * partitions in the mask. Only items sharing a token with the query can reach
+     * a non-zero Jaccard score, so the index lookup returns exactly the matches a
+     * full scan would.
+     */
+    private static List<Item> searchCandidates(int[] queryTokens, int partitionMask) {
+        return searchCandidates(queryTokens, SIMILARITY_THRESHOLD, APPROXIMATE_SEARCH, partitionMask);
+    }
+
+    private static List<Item> searchCandidates(int[] queryTokens, double threshold, boolean approximate,
+            int partitionMask) {
+        ItemStore.Snapshot<Item> items;
+        int[] ordinals;
+        if (threshold <= 0.0) {
+            // with a zero threshold even zero-score items qualify, so take the whole partitions
+            items = store.snapshot();
+            ordinals = partitions.members(partitionMask, items.size());
+        } else {
+            MinHashLsh lsh = lshIndex;
+            ordinals = approximate && lsh != null
+                    ? lsh.candidates(lsh.signature(queryTokens))
+                    : tokenIndex.candidates(queryTokens);
+            // taken after the lookup so it contains every ordinal the index returned
+            items = store.snapshot();
+        }
+        List<Item> candidates = new ArrayList<>(ordinals.length);
+        for (int o : ordinals) {
+            if (partitions.contains(o, partitionMask))
+                candidates.add(items.get(o));
+        }
+        return candidates;
+    }
+
+    // Writes items in the text format; returns false if the file was not replaced
+    static boolean saveItemsToFile(Path p, Path backup, List<Item> items) {
+        Path tmp = Paths.get(p + ".tmp");
+
+        // Backup existing file if it exists
+        if (backup != null && Files.exists(p)) {
+            try {
+                Files.copy(p, backup, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                System.err.println("Warning: Could not create backup: " + e.getMessage());
+            }
+        }
+
+        // Write to a temp file and swap it in, so a crash never leaves a half-written store
+        try (BufferedWriter w = Files.newBufferedWriter(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Item it : items) {
+                w.write(it.toLine());
+                w.newLine();
+            }
+        } catch (IOException e) {
+            System.err.println("Error saving to storage: " + e.getMessage());
+            return false;
+        }
+        try {
+            Files.move(tmp, p, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+                    java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Error saving to storage: " + e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    // Logging (simple audit log) -- queued, never blocks on disk I/O
+    private static void log(String action, String message) {
+        auditLogger.log(action, message);
+    }
+
+    // Submitted field values (bulk import, HTTP): the fixed category matching ignoring
+    // case, anything else (blank included) is "Others"
+    static String submittedCategory(String category) {
+        for (String c : CATEGORIES) {
+            if (c.equalsIgnoreCase(category))
+                return c;
+        }
+        return "Others";
+    }
+
+    // yes/no, y/n, true/false or 1/0 ignoring case; blank is no
+    static boolean parseYesNo(String field, String value) {
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "": case "false": case "no": case "n": case "0":
+                return false;
+            case "true": case "yes": case "y": case "1":
+                return true;
+            default:
+                throw new IllegalArgumentException(field + " is not yes/no: " + value);
+        }
+    }
+
+    // Text normalization (step 2): the distinct terms of the text
+    static List<String> preprocessToSet(String text) {
+        return ANALYZER.analyze(text);
+    }
+
+    // Dictionary every item's token ids refer to (e.g. for writing items to a snapshot)
+    static TokenDictionary tokenDictionary() {
+        return TOKENS;
+    }
+
+    // Query tokens as sorted ids; tokens unknown to the dictionary get negative ids
+    static int[] queryTokenIds(String text) {
+        return TOKENS.lookupAll(preprocessToSet(text));
+    }
+
+    // Query tokens plus, for each word no ACTIVE item contains (usually a typo), the
+    // nearest tokens that some item does contain
+    private static Query parseQuery(String text) {
+        List<String> words = preprocessToSet(text);
+        int[] ids = new int[words.size()];
+        int unknown = 0;
+        for (int i = 0; i < ids.length; i++) {
+            int id = TOKENS.lookup(words.get(i));
+            ids[i] = id >= 0 ? id : -(++unknown); // same placeholders as lookupAll
+        }
+        int[] tokens = ids.clone();
+        Arrays.sort(tokens);
+
+        List<String> typos = new ArrayList<>();
+        List<TrigramIndex.Expansion> standIns = new ArrayList<>();
+        List<Integer> groups = new ArrayList<>();
+        Set<Integer> taken = new HashSet<>(); // a stand-in replaces one word at most
+        for (int i = 0; i < ids.length; i++) {
+            String word = words.get(i);
+            if (tokenIndex.frequency(ids[i]) > 0)
+                continue;
+            List<TrigramIndex.Expansion> found = TRIGRAMS.expand(word, TrigramIndex.maxEdits(word.length()),
+                    FUZZY_EXPANSIONS, t -> tokenIndex.frequency(t) > 0 && Arrays.binarySearch(tokens, t) < 0
+                            && !taken.contains(t));
+            if (found.isEmpty())
+                continue;
+            for (TrigramIndex.Expansion e : found) {
+                taken.add(e.tokenId);
+                standIns.add(e);
+                groups.add(typos.size());
+            }
+            typos.add(word);
+        }
+        return new Query(tokens, typos, standIns, groups, RANKER == Ranker.BM25 ? bm25Index : null);
+    }
+
+    // Similarity (Jaccard) (step 5)
+    // Both sides are sorted token id arrays, so the intersection is a single merge
+    // and |union| = |a| + |b| - |intersection|. Nothing is allocated per comparison.
+    static double jaccard(int[] a, int[] b) {
+        return jaccard(intersect(a, b, null), a.length, b.length);
+    }
+
+    private static double jaccard(int intersection, int sizeA, int sizeB) {
+        int union = sizeA + sizeB - intersection;
+        if (union == 0)
+            return 0.0;
+        return (double) intersection / (double) union;
+    }
+
+    /**
+     * Counts the ids common to two sorted arrays. When shared is not null the
+     * common ids are also written to it (it needs room for min(|a|, |b|) ids).
+     */
+    private static int intersect(int[] a, int[] b, int[] shared) {
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                if (shared != null)
+                    shared[n] = a[i];
+                n++;
+                i++;
+                j++;
+            }
+        }
+        return n;
+    }
+
+    private static List<String> tokenStrings(int[] ids, int count) {
+        List<String> words = new ArrayList<>(count);
+        for (int k = 0; k < count; k++)
+            words.add(TOKENS.token(ids[k]));
+        return words;
+    }
+
+    // List found items (helper)
+    private static void listFoundItems() {
+        System.out.println("\nFound items (all):");
+        ItemStore.Snapshot<Item> items = store.snapshot();
+        if (items.isEmpty() && archive.size() == 0) {
+            System.out.println("(no items)");
+            return;
+        }
+        java.util.function.Consumer<Item> row = it -> System.out.printf(
+                "ID: %s | Name: %s | Date: %s | Location: %s | Status: %s\n",
+                it.id, truncate(it.getName(), 30), it.dateFound.format(DateTimeFormatter.ISO_LOCAL_DATE),
+                truncate(it.getLocation(), 25), it.status);
+        items.forEach(row);
+        forEachArchived((it, offset) -> row.accept(it));
+    }
+
+    // Utility classes
+
+    private static class Match {
+        Item item;
+        double score;
+
+        Match(Item i, double s) {
+            item = i;
+            score = s;
+        }
+    }
+
+    // Immutable once stored: a status change stores a copy (see withStatus). The lazily
+    // decoded text fields may be filled in by several readers at once, which is harmless
+    // since each computes the same String.
+    static class Item {
+        private static final Pattern LINE_BREAK = Pattern.compile("\\r?\\n");
+
+        final String id;
+        // text fields are null until first use when the item came from a binary
+        // snapshot; read them through the getters
+        String name;
+        String description;
+        String category; // NEW: Item category
+        final LocalDate dateFound;
+        String location;
+        String contact;
+        final double estimatedValue;
+        final boolean perishable;
+        final String status; // ACTIVE or REMOVED
+        final LocalDateTime createdAt;
+
+        // sorted token ids (see TokenDictionary) for allocation-free similarity
+        private final transient int[] tokenIds;
+        // position in the item store, used as the postings key in the token index
+        transient int ordinal = -1;
+        // MinHash signature for the current LSH configuration (computed on demand)
+        private transient volatile int[] minHashSignature = null;
+        // mapped snapshot still holding this item's text fields (see BinarySnapshot)
+        final transient BinarySnapshot.Reader snapshot;
+        final transient int snapshotRow;
+
+        Item(String id, String name, String description, String category, LocalDate dateFound, String location,
+                String contact, double estimatedValue, boolean perishable, String status, LocalDateTime createdAt) {
+            this(id, name, description, category, dateFound, location, contact, estimatedValue, perishable, status,
+                    createdAt, TOKENS.internAll(preprocessToSet(name + " " + description)));
+        }
+
+        private Item(String id, String name, String description, String category, LocalDate dateFound,
+                String location, String contact, double estimatedValue, boolean perishable, String status,
+                LocalDateTime createdAt, int[] tokenIds) {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+            this.category = category != null ? category : "Others";
+            this.dateFound = dateFound;
+            this.location = location;
+            this.contact = contact;
+            this.estimatedValue = estimatedValue;
+            this.perishable = perishable;
+            this.status = status;
+            this.createdAt = createdAt;
+            this.tokenIds = tokenIds;
+            this.snapshot = null;
+            this.snapshotRow = -1;
+        }
+
+        // Copy with another status; shares text, tokens and position with the original
+        private Item(Item src, String status) {
+            this.id = src.id;
+            this.name = src.name;
+            this.description = src.description;
+            this.category = src.category;
+            this.dateFound = src.dateFound;
+            this.location = src.location;
+            this.contact = src.contact;
+            this.estimatedValue = src.estimatedValue;
+            this.perishable = src.perishable;
+            this.status = status;
+            this.createdAt = src.createdAt;
+            this.tokenIds = src.tokenIds;
+            this.ordinal = src.ordinal;
+            this.minHashSignature = src.minHashSignature;
+            this.snapshot = src.snapshot;
+            this.snapshotRow = src.snapshotRow;
+        }
+
+        Item withStatus(String newStatus) {
+            return new Item(this, newStatus);
+        }
+
+        // Snapshot rows: fixed-width fields are copied now, text stays in the mapping
+        private Item(BinarySnapshot.Reader snapshot, int row, String id, int[] tokenIds) {
+            this.snapshot = snapshot;
+            this.snapshotRow = row;
+            this.id = id;
+            this.dateFound = snapshot.dateFound(row);
+            this.estimatedValue = snapshot.estimatedValue(row);
+            this.perishable = snapshot.perishable(row);
+            this.status = snapshot.status(row);
+            this.createdAt = snapshot.createdAt(row);
+            this.tokenIds = tokenIds;
+        }
+
+        String getName() {
+            if (name == null)
+                name = snapshot.text(snapshotRow, BinarySnapshot.F_NAME);
+            return name;
+        }
+
+        String getDescription() {
+            if (description == null)
+                description = snapshot.text(snapshotRow, BinarySnapshot.F_DESCRIPTION);
+            return description;
+        }
+
+        String getCategory() {
+            if (category == null)
+                category = canonicalCategory(snapshot.text(snapshotRow, BinarySnapshot.F_CATEGORY));
+            return category;
+        }
+
+        String getLocation() {
+            if (location == null)
+                location = snapshot.text(snapshotRow, BinarySnapshot.F_LOCATION);
+            return location;
+        }
+
+        String getContact() {
+            if (contact == null)
+                contact = snapshot.text(snapshotRow, BinarySnapshot.F_CONTACT);
+            return contact;
+        }
+
+        // Text already in memory, or null if it would have to be decoded
+        String loadedText(int field) {
+            switch (field) {
+                case BinarySnapshot.F_NAME:
+                    return name;
+                case BinarySnapshot.F_DESCRIPTION:
+                    return description;
+                case BinarySnapshot.F_CATEGORY:
+                    return category;
+                case BinarySnapshot.F_LOCATION:
+                    return location;
+                case BinarySnapshot.F_CONTACT:
+                    return contact;
+                default:
+                    return null;
+            }
+        }
+
+        int[] getTokenIds() {
+            return tokenIds;
+        }
+
+        int[] getMinHashSignature() {
+            if (minHashSignature == null)
+                minHashSignature = lshIndex.signature(getTokenIds());
+            return minHashSignature;
+        }
+
+        String toLine() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(id).append(DELIM)
+                    .append(clean(getName())).append(DELIM)
+                    .append(clean(getDescription())).append(DELIM)
+                    .append(clean(getCategory())).append(DELIM) // NEW: category field
+                    .append(dateFound.format(DateTimeFormatter.ISO_LOCAL_DATE)).append(DELIM)
+                    .append(clean(getLocation())).append(DELIM)
+                    .append(clean(getContact())).append(DELIM)
+                    .append(estimatedValue).append(DELIM)
+                    .append(perishable).append(DELIM)
+                    .append(status).append(DELIM)
+                    .append(createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return sb.toString();
+        }
+
+        private static String clean(String s) {
+            if (s == null)
+                return "";
+            if (s.indexOf('\n') < 0 && !s.contains(DELIM))
+                return s; // the usual case: nothing to replace
+            return LINE_BREAK.matcher(s.replace(DELIM, " ")).replaceAll(" ");
+        }
+
+        static Item fromLine(String line) {
+            List<String> notes = new ArrayList<>(0);
+            Item it = fromLine(line, notes);
+            for (String n : notes)
+                System.out.println(n);
+            return it;
+        }
+
+        // notes receives console messages (migrations) so parallel loaders can print in order
+        static Item fromLine(String line, List<String> notes) {
+            return parse(line, notes, true);
+        }
+
+        // Archive records are only displayed, so their words are not tokenized (nor added
+        // to the token dictionary)
+        static Item fromArchiveLine(String line) {
+            return parse(line, new ArrayList<>(0), false);
+        }
+
+        private static Item parse(String line, List<String> notes, boolean tokenize) {
+            String[] parts = line.split(Pattern.quote(DELIM), -1);
+
+            // Support old format (10 parts) and new format (11 parts with category)
+            if (parts.length < 10)
+                throw new IllegalArgumentException("Invalid line");
+
+            String id = parts[0];
+            String name = parts[1];
+            String description = parts[2];
+
+            String category;
             LocalDate dateFound;
             String location;
             String contact;
@@ -700,16 +1459,26 @@ public class LostAndFoundSystem {
                 perishable = Boolean.parseBoolean(parts[7]);
                 status = parts[8];
                 createdAt = LocalDateTime.parse(parts[9], DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                System.out.println("[MIGRATION] Item " + id + " migrated with category: Others");
+                notes.add("[MIGRATION] Item " + id + " migrated with category: Others");
             }
 
+            if (!tokenize)
+                return new Item(id, name, description, category, dateFound, location, contact, estimatedValue,
+                        perishable, status, createdAt, new int[0]);
             return new Item(id, name, description, category, dateFound, location, contact, estimatedValue, perishable,
                     status, createdAt);
         }
 
         String summaryForLog() {
-            return String.format("ID=%s Name=%s Cat=%s Loc=%s Val=%.2f Per=%s Status=%s", id, truncate(name, 50),
-                    category, truncate(location, 30), estimatedValue, perishable, status);
+            return summaryForLog(id, getName(), getCategory(), getLocation(), estimatedValue, perishable, status);
+        }
+
+        // Same summary for a submission that never became an item
+        static String summaryForLog(String id, String name, String category, String location, double estimatedValue,
+                boolean perishable, String status) {
+            return String.format("ID=%s Name=%s Cat=%s Loc=%s Val=%.2f Per=%s Status=%s", id,
+                    truncate(name, 50), category != null ? category : "Others", truncate(location, 30),
+                    estimatedValue, perishable, status);
         }
     }
 
@@ -717,56 +1486,81 @@ public class LostAndFoundSystem {
     public String guiSubmitFoundItem(String name, String desc, String category, String loc, LocalDate dateFound,
             double value, boolean perish,
             String contact) {
+        SubmitResult result = submitItem(name, desc, category, loc, dateFound, value, perish, contact);
+        if (!result.isAccepted()) {
+            return "Item not accepted (qualification failed).\\n\\nQualification Details:\\n" + result.getDetails();
+        }
+        return "Item accepted and saved: " + result.getItemId() + "\\n\\nQualification Details:\\n"
+                + result.getDetails();
+    }
+
+    /**
+     * Qualifies a found item and stores it if accepted; the result carries the new id
+     * and the qualification details.
+     */
+    public SubmitResult submitItem(String name, String desc, String category, String loc, LocalDate dateFound,
+            double value, boolean perish, String contact) {
+        // qualified on the fields first, so a rejected submission interns no tokens
+        QualificationResult qualification = QUALIFIER.evaluate(name, desc, loc, contact, value, perish);
+        if (!qualification.isAccepted()) {
+            return new SubmitResult(null, qualification.render());
+        }
+
         Item item = new Item(
                 java.util.UUID.randomUUID().toString(),
                 name, desc, category, dateFound,
                 loc, contact, value, perish, "ACTIVE", java.time.LocalDateTime.now());
 
-        // Store original System.out to capture qualification output
-        java.io.ByteArrayOutputStream qualificationOutput = new java.io.ByteArrayOutputStream();
-        java.io.PrintStream originalOut = System.out;
-        java.io.PrintStream captureStream = new java.io.PrintStream(qualificationOutput);
-
-        boolean qualified = false;
-        try {
-            System.setOut(captureStream);
-            qualified = qualifyItem(item);
-        } finally {
-            System.setOut(originalOut);
-        }
-
-        String qualificationDetails = qualificationOutput.toString();
-
-        if (!qualified) {
-            return "Item not accepted (qualification failed).\\n\\nQualification Details:\\n" + qualificationDetails;
-        }
-
-        foundItems.add(item);
-        saveItemsToFile();
+        storeNewItem(item);
         log("ADD-FOUND", item.summaryForLog());
-        return "Item accepted and saved: " + item.id + "\\n\\nQualification Details:\\n" + qualificationDetails;
+        return new SubmitResult(item.id, qualification.render());
     }
 
     // Enhanced search with matching keywords
     public String guiSearchLostItem(String name, String desc, String loc) {
-        java.util.Set<String> queryTokens = preprocessToSet(name + " " + desc + " " + loc);
+        return guiSearchLostItem(name, desc, loc, null);
+    }
+
+    /**
+     * Search limited to one category (one of CATEGORIES; null, blank or "Any" for all).
+     *
+     * @throws IllegalArgumentException for an unknown category
+     */
+    public String guiSearchLostItem(String name, String desc, String loc, String category) {
+        int mask = partitions.mask(category);
+        Query query = parseQuery(name + " " + desc + " " + loc);
+        double threshold = SIMILARITY_THRESHOLD;
+        boolean approximate = APPROXIMATE_SEARCH;
+        // a zero threshold matches every item, so any mutation could change the result
+        if (threshold <= 0.0)
+            return renderSearch(query, threshold, approximate, mask);
+        return SEARCH_CACHE.get(
+                new SearchCache.Key(query.lookupIds(), query.variant() + "|" + mask, threshold, approximate),
+                () -> renderSearch(query, threshold, approximate, mask));
+    }
+
+    /**
+     * Search result cache counters: hits, misses, evictions, entries and weight
+     * (cached characters).
+     */
+    public java.util.Map<String, Long> getSearchCacheStats() {
+        return SEARCH_CACHE.stats();
+    }
+
+    private static String renderSearch(Query query, double threshold, boolean approximate, int partitionMask) {
         StringBuilder sb = new StringBuilder();
         java.util.List<MatchWithKeywords> matches = new java.util.ArrayList<>();
 
-        for (Item it : foundItems) {
+        for (Item it : searchCandidates(query.lookupIds(), threshold, approximate, partitionMask)) {
             if (!it.status.equalsIgnoreCase("ACTIVE"))
                 continue;
-            java.util.Set<String> itemTokens = it.getTokenSet();
-
-            // Calculate Jaccard similarity
-            double score = jaccard(queryTokens, itemTokens);
 
-            if (score >= SIMILARITY_THRESHOLD) {
-                // Find matching keywords (intersection)
-                java.util.Set<String> matchingKeywords = new java.util.HashSet<>(queryTokens);
-                matchingKeywords.retainAll(itemTokens);
+            // Score with the selected ranker; the same pass collects the matching keywords
+            java.util.List<String> keywords = new java.util.ArrayList<>();
+            double score = query.score(it, keywords);
 
-                matches.add(new MatchWithKeywords(it, score, matchingKeywords));
+            if (score >= threshold) {
+                matches.add(new MatchWithKeywords(it, score, keywords));
             }
         }
 
@@ -778,7 +1572,7 @@ public class LostAndFoundSystem {
             Item it = m.item;
             sb.append(String.format(
                     "ID: %s | Name: %s | Cat: %s | Loc: %s | Value: %.2f | Similarity: %.1f%%\\n",
-                    it.id.substring(0, Math.min(8, it.id.length())), it.name, it.category, it.location,
+                    it.id.substring(0, Math.min(8, it.id.length())), it.getName(), it.getCategory(), it.getLocation(),
                     it.estimatedValue, m.score * 100));
 
             // Show matching keywords
@@ -790,47 +1584,267 @@ public class LostAndFoundSystem {
         return sb.toString();
     }
 
+    /**
+     * Paged search returning typed results, best match first. Only the best
+     * offset + limit matches are kept (bounded min-heap), so ranking costs
+     * O(n log K) and memory does not grow with the number of matches.
+     */
+    public java.util.List<SearchResult> searchLostItems(String name, String desc, String loc, int limit,
+            int offset) {
+        return searchLostItems(name, desc, loc, null, limit, offset);
+    }
+
+    /**
+     * Paged search limited to one category (one of CATEGORIES; null, blank or "Any"
+     * for all).
+     *
+     * @throws IllegalArgumentException for an unknown category
+     */
+    public java.util.List<SearchResult> searchLostItems(String name, String desc, String loc, String category,
+            int limit, int offset) {
+        int mask = partitions.mask(category);
+        if (limit <= 0 || offset < 0)
+            return java.util.Collections.emptyList();
+        Query query = parseQuery(name + " " + desc + " " + loc);
+        int k = (int) Math.min(Integer.MAX_VALUE - 8L, (long) offset + limit);
+
+        // head of the heap is the weakest kept match: lowest score, later item on ties
+        java.util.Comparator<Match> worstFirst = (a, b) -> a.score != b.score
+                ? Double.compare(a.score, b.score)
+                : Integer.compare(b.item.ordinal, a.item.ordinal);
+        java.util.PriorityQueue<Match> heap = new java.util.PriorityQueue<>(Math.min(k, 1024), worstFirst);
+
+        for (Item it : searchCandidates(query.lookupIds(), mask)) {
+            if (!it.status.equalsIgnoreCase("ACTIVE"))
+                continue;
+            double score = query.score(it, null);
+            if (score < SIMILARITY_THRESHOLD)
+                continue;
+            Match m = new Match(it, score);
+            if (heap.size() < k) {
+                heap.add(m);
+            } else if (worstFirst.compare(m, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(m);
+            }
+        }
+
+        // drain weakest-first, keep only the requested page
+        int kept = heap.size();
+        java.util.List<SearchResult> page = new java.util.ArrayList<>(Math.max(0, Math.min(limit, kept - offset)));
+        Match[] ranked = new Match[Math.max(0, kept - offset)];
+        for (int i = kept - 1; i >= 0; i--) {
+            Match m = heap.poll();
+            if (i >= offset)
+                ranked[i - offset] = m;
+        }
+        for (Match m : ranked) {
+            java.util.List<String> keywords = new java.util.ArrayList<>();
+            query.score(m.item, keywords);
+            page.add(new SearchResult(m.item.id, m.score, keywords));
+        }
+        return page;
+    }
+
+    /**
+     * One page of the item list for table views: items in the requested order,
+     * REMOVED items only when showRemoved is set. Ties keep storage order in both
+     * directions, so pages are stable. Each sort key has an order that is kept across
+     * store versions (see SortIndex): appended items are placed into it and status
+     * changes do not touch it, so a page costs O(offset + limit) row checks, and nothing
+     * proportional to the store is sorted or decoded again. STORAGE and STATUS orders
+     * are walked directly. Archived items are included with showRemoved (before the
+     * others on ties); the archive is read once after each checkpoint that grows it, and
+     * a page reads only its rows.
+     */
+    public ItemPage listItemsPage(boolean showRemoved, ItemSort sort, boolean ascending, int offset, int limit) {
+        ItemStore.Snapshot<Item> items = store.snapshot();
+        int size = items.size();
+        SortedView view = sortedView(items, showRemoved, sort != null ? sort : ItemSort.STORAGE, ascending);
+        int total = showRemoved ? view.archiveOffsets.length + size : Math.max(0, size - stats.count("REMOVED"));
+        int from = Math.max(0, Math.min(offset, total));
+        int[] page = view.rows(items)
+                .filter(r -> r < size && (r < 0 || showRemoved || !items.get(r).status.equals("REMOVED")))
+                .skip(from)
+                .limit(Math.max(0, limit))
+                .toArray();
+        java.util.List<ItemRow> rows = new java.util.ArrayList<>(page.length);
+        for (int r : page)
+            rows.add(new ItemRow(r >= 0 ? items.get(r) : view.archivedRow(r)));
+        return new ItemPage(rows, from, total);
+    }
+
+    // Orders handed out by listItemsPage, per sort key, direction and showRemoved;
+    // replaced when the archive changes
+    private static final Map<String, SortedView> sortedViews = new java.util.concurrent.ConcurrentHashMap<>();
+
+    // Archived rows are Integer.MIN_VALUE + k, k indexing archiveOffsets, so they sort
+    // before every stored item on ties
+    private static SortedView sortedView(ItemStore.Snapshot<Item> items, boolean showRemoved, ItemSort sort,
+            boolean ascending) {
+        String key = sort + (ascending ? " asc" : " desc") + (showRemoved ? " removed" : "");
+        int archiveSize = showRemoved ? archive.size() : 0;
+        SortedView view = sortedViews.get(key);
+        if (view != null && view.archiveSize == archiveSize)
+            return view;
+
+        switch (sort) {
+            case DATE_FOUND:
+                view = keyedView(items, showRemoved, sort, ascending, archiveSize, it -> it.dateFound,
+                        java.util.Comparator.<LocalDate>naturalOrder());
+                break;
+            case CATEGORY:
+                view = keyedView(items, showRemoved, sort, ascending, archiveSize, Item::getCategory,
+                        String.CASE_INSENSITIVE_ORDER);
+                break;
+            case LOCATION:
+                view = keyedView(items, showRemoved, sort, ascending, archiveSize, Item::getLocation,
+                        String.CASE_INSENSITIVE_ORDER);
+                break;
+            case VALUE:
+                view = keyedView(items, showRemoved, sort, ascending, archiveSize, it -> it.estimatedValue,
+                        java.util.Comparator.<Double>naturalOrder());
+                break;
+            default:
+                // STORAGE and STATUS need no index; STATUS is the one key that changes
+                java.util.List<Long> offsets = new java.util.ArrayList<>();
+                if (showRemoved)
+                    forEachArchived((it, offset) -> offsets.add(offset));
+                view = new SortedView(sort, ascending, archiveSize,
+                        offsets.stream().mapToLong(Long::longValue).toArray(), null);
+        }
+        sortedViews.put(key, view);
+        return view;
+    }
+
+    // One sequential pass over the archive collects the archived rows' offsets and sort
+    // keys. The keys stay in memory, so sorting and placing later additions never read
+    // the archive; it is read again only when it changes.
+    private static <K> SortedView keyedView(ItemStore.Snapshot<Item> items, boolean showRemoved, ItemSort sort,
+            boolean ascending, int archiveSize, java.util.function.Function<Item, K> key,
+            java.util.Comparator<K> byKey) {
+        java.util.List<K> archivedKeys = new java.util.ArrayList<>();
+        java.util.List<Long> offsets = new java.util.ArrayList<>();
+        if (showRemoved) {
+            forEachArchived((it, offset) -> {
+                archivedKeys.add(key.apply(it));
+                offsets.add(offset);
+            });
+        }
+        int[] initial = new int[archivedKeys.size() + items.size()];
+        for (int k = 0; k < archivedKeys.size(); k++)
+            initial[k] = Integer.MIN_VALUE + k;
+        for (int o = 0; o < items.size(); o++)
+            initial[archivedKeys.size() + o] = o; // REMOVED included: a status change must not move rows
+        SortIndex<K> index = new SortIndex<>(ascending ? byKey : byKey.reversed(), initial, items.size(),
+                r -> r < 0 ? archivedKeys.get(r - Integer.MIN_VALUE) : key.apply(items.get(r)));
+        return new SortedView(sort, ascending, archiveSize, offsets.stream().mapToLong(Long::longValue).toArray(),
+                snapshot -> index.rows(snapshot.size(),
+                        r -> r < 0 ? archivedKeys.get(r - Integer.MIN_VALUE) : key.apply(snapshot.get(r))));
+    }
+
+    /**
+     * Lists the items as text; with showRemoved the archived items follow the stored ones.
+     */
     public String guiListItems(boolean showRemoved) {
         StringBuilder sb = new StringBuilder("Current Found Items:\\n\\n");
-        int count = 0;
-        for (Item it : foundItems) {
-            if (!showRemoved && it.status.equals("REMOVED"))
-                continue;
+        int[] count = { 0 };
+        java.util.function.Consumer<Item> row = it -> {
             sb.append(String.format("ID: %s | Name: %s | Cat: %s | Loc: %s | Date: %s | Status: %s\\n",
-                    it.id.substring(0, Math.min(8, it.id.length())), it.name, it.category, it.location,
+                    it.id.substring(0, Math.min(8, it.id.length())), it.getName(), it.getCategory(), it.getLocation(),
                     it.dateFound.format(java.time.format.DateTimeFormatter.ISO_LOCAL_DATE), it.status));
-            count++;
+            count[0]++;
+        };
+        for (Item it : store.snapshot()) {
+            if (showRemoved || !it.status.equals("REMOVED"))
+                row.accept(it);
         }
-        if (count == 0)
+        if (showRemoved)
+            forEachArchived((it, offset) -> row.accept(it));
+        if (count[0] == 0)
             sb.append("(none)\\n");
         return sb.toString();
     }
 
     public String guiRemoveItem(String id) {
-        java.util.Optional<Item> opt = foundItems.stream().filter(i -> i.id.equals(id) || i.id.startsWith(id))
-                .findFirst();
-        if (opt.isEmpty())
-            return "Item not found.";
-        Item it = opt.get();
-        it.status = "REMOVED";
-        saveItemsToFile();
+        int[] matches = idIndex.resolve(id.trim(), AMBIGUOUS_ID_REPORT_LIMIT + 1);
+        if (matches.length == 0)
+            return notFoundMessage(id.trim());
+        if (matches.length > 1)
+            return ambiguousIdMessage(id.trim(), matches);
+        Item it = storeRemoval(store.snapshot().get(matches[0]));
         log("REMOVE", it.summaryForLog());
         return "Item marked REMOVED: " + it.id;
     }
 
+    /**
+     * Items whose id is idOrPrefix or starts with it, stored or archived, for audits
+     * (at most limit rows; an exact id returns just that item). Archived items are
+     * read from disk only here and in listings.
+     */
+    public java.util.List<ItemRow> lookupItems(String idOrPrefix, int limit) {
+        String key = idOrPrefix == null ? "" : idOrPrefix.trim();
+        java.util.List<ItemRow> rows = new java.util.ArrayList<>();
+        ItemStore.Snapshot<Item> items = store.snapshot();
+        int[] hot = idIndex.resolve(key, limit);
+        for (int o : hot)
+            rows.add(new ItemRow(items.get(o)));
+        if (hot.length == 1 && items.get(hot[0]).id.equals(key))
+            return rows;
+        try {
+            for (long offset : archive.resolve(key, limit)) {
+                Item it = Item.fromArchiveLine(archive.read(offset));
+                if (it.id.equals(key)) { // an exact id wins, like IdIndex.resolve
+                    rows.clear();
+                    rows.add(new ItemRow(it));
+                    break;
+                }
+                if (rows.size() < limit && idIndex.get(it.id) < 0)
+                    rows.add(new ItemRow(it));
+            }
+        } catch (IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    // No stored item matches: tell whether the id belongs to an archived (REMOVED) one
+    private static String notFoundMessage(String idOrPrefix) {
+        try {
+            long[] archived = archive.resolve(idOrPrefix, 2);
+            if (archived.length == 1)
+                return "Item already REMOVED (archived): " + Item.fromArchiveLine(archive.read(archived[0])).id;
+            if (archived.length > 1)
+                return "Item not found. The ID matches several archived (REMOVED) items.";
+        } catch (IOException e) {
+            System.err.println("Error reading item archive: " + e.getMessage());
+        }
+        return "Item not found.";
+    }
+
+    // Prefix matched several items: list them instead of picking one (ordinals holds
+    // up to AMBIGUOUS_ID_REPORT_LIMIT + 1 matches)
+    private static String ambiguousIdMessage(String prefix, int[] ordinals) {
+        ItemStore.Snapshot<Item> items = store.snapshot();
+        StringJoiner ids = new StringJoiner(", ");
+        for (int i = 0; i < Math.min(ordinals.length, AMBIGUOUS_ID_REPORT_LIMIT); i++)
+            ids.add(items.get(ordinals[i]).id);
+        if (ordinals.length > AMBIGUOUS_ID_REPORT_LIMIT)
+            ids.add("...");
+        String count = ordinals.length > AMBIGUOUS_ID_REPORT_LIMIT ? "more than " + AMBIGUOUS_ID_REPORT_LIMIT
+                : String.valueOf(ordinals.length);
+        return "Ambiguous ID \"" + prefix + "\" matches " + count + " items (" + ids
+                + "). Enter more characters of the ID.";
+    }
+
     // Statistics methods
+    // Statistics are maintained on every mutation (see ItemStatistics), so these are O(1)
     public int getTodayItemsCount() {
-        LocalDate today = LocalDate.now();
-        return (int) foundItems.stream()
-                .filter(item -> item.dateFound.equals(today))
-                .filter(item -> item.status.equals("ACTIVE"))
-                .count();
+        return stats.activeToday();
     }
 
     public int getActiveItemsCount() {
-        return (int) foundItems.stream()
-                .filter(item -> item.status.equals("ACTIVE"))
-                .count();
+        return stats.count("ACTIVE");
     }
 
     public int getPendingItemsCount() {
@@ -838,19 +1852,441 @@ public class LostAndFoundSystem {
         return getActiveItemsCount();
     }
 
+    /**
+     * Number of ACTIVE items per category, sorted by category name.
+     */
+    public java.util.Map<String, Integer> getActiveItemsByCategory() {
+        return stats.activeByCategory();
+    }
+
+    /**
+     * Measures LSH recall against the exact scorer. Each sampled ACTIVE item's
+     * description is used as a query; the exact result set comes from the token
+     * index and the approximate one from LSH candidates with the same threshold.
+     * Pass {bands, rows} pairs to compare configurations (defaults to the current one).
+     */
+    public String lshRecallReport(int sampleSize, int[]... bandRowPairs) {
+        if (bandRowPairs.length == 0)
+            bandRowPairs = new int[][] { { LSH_BANDS, LSH_ROWS } };
+
+        ItemStore.Snapshot<Item> items = store.snapshot();
+        List<Item> sample = new ArrayList<>();
+        for (Item it : items) {
+            if (sample.size() >= sampleSize)
+                break;
+            if (it.status.equalsIgnoreCase("ACTIVE"))
+                sample.add(it);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("LSH recall report (threshold: %.2f, %d queries)\n", SIMILARITY_THRESHOLD,
+                sample.size()));
+        for (int[] cfg : bandRowPairs) {
+            MinHashLsh engine = new MinHashLsh(cfg[0], cfg[1]);
+            for (Item it : items) {
+                if (it.status.equalsIgnoreCase("ACTIVE"))
+                    engine.add(it.ordinal, engine.signature(it.getTokenIds()));
+            }
+
+            long exactMatches = 0, foundMatches = 0, exactCandidates = 0, lshCandidates = 0;
+            long exactNanos = 0, lshNanos = 0;
+            for (Item q : sample) {
+                int[] queryTokens = queryTokenIds(q.getDescription());
+
+                long t0 = System.nanoTime();
+                int[] exact = tokenIndex.candidates(queryTokens);
+                Set<Integer> expected = new HashSet<>();
+                for (int o : exact) {
+                    if (o < items.size() && jaccard(queryTokens, items.get(o).getTokenIds()) >= SIMILARITY_THRESHOLD)
+                        expected.add(o);
+                }
+                long t1 = System.nanoTime();
+                int[] approx = engine.candidates(engine.signature(queryTokens));
+                int hits = 0;
+                for (int o : approx) {
+                    Item it = items.get(o);
+                    if (it.status.equalsIgnoreCase("ACTIVE")
+                            && jaccard(queryTokens, it.getTokenIds()) >= SIMILARITY_THRESHOLD
+                            && expected.contains(o))
+                        hits++;
+                }
+                long t2 = System.nanoTime();
+
+                exactMatches += expected.size();
+                foundMatches += hits;
+                exactCandidates += exact.length;
+                lshCandidates += approx.length;
+                exactNanos += t1 - t0;
+                lshNanos += t2 - t1;
+            }
+
+            double recall = exactMatches == 0 ? 1.0 : (double) foundMatches / exactMatches;
+            int n = Math.max(1, sample.size());
+            sb.append(String.format(
+                    "bands=%d rows=%d | recall: %.1f%% (%d/%d) | P(hit) at threshold: %.1f%%"
+                            + " | candidates/query exact=%.1f lsh=%.1f | time/query exact=%.1fus lsh=%.1fus\n",
+                    cfg[0], cfg[1], recall * 100, foundMatches, exactMatches,
+                    engine.collisionProbability(SIMILARITY_THRESHOLD) * 100,
+                    (double) exactCandidates / n, (double) lshCandidates / n,
+                    exactNanos / 1000.0 / n, lshNanos / 1000.0 / n));
+        }
+        return sb.toString();
+    }
+
+    // Maps stored category text to the shared CATEGORIES constant when it is one
+    private static String canonicalCategory(String category) {
+        for (String c : CATEGORIES) {
+            if (c.equals(category))
+                return c;
+        }
+        return category;
+    }
+
+    // Search query: sorted token ids, plus stand-in tokens for misspelled words. A
+    // stand-in found in an item counts as a partial match of its word (FUZZY_WEIGHT,
+    // halved per further edit). Without BM25 statistics the score is Jaccard with
+    // weighted matches: (exact + stand-in weights) / (|query| + |item| - matched words).
+    // With them it is the item's BM25 score over the best a query could reach, the
+    // query's idf values computed once up front. Used by one thread at a time.
+    private static final class Query {
+        final int[] tokens; // sorted; unknown words are negative placeholders
+        final String[] typos; // words with stand-ins, by group
+        final int[] standIns; // token ids, grouped by word, nearest first
+        final double[] weights;
+        final int[] groups; // index into typos for each stand-in
+        private final int[] lookupIds;
+        private final Bm25Index bm25; // null: Jaccard
+        private double[] coefficients; // per lookup id: idf times the stand-in weight
+        private int[] idGroups; // per lookup id: its stand-in group, or -1
+        private double maxScore;
+        private double[] contributions; // scratch, per lookup id
+        private double[] groupBest; // scratch, per group
+        private int[] groupToken;
+
+        Query(int[] tokens, List<String> typos, List<TrigramIndex.Expansion> standIns, List<Integer> groups,
+                Bm25Index bm25) {
+            this.tokens = tokens;
+            this.typos = typos.toArray(new String[0]);
+            this.standIns = new int[standIns.size()];
+            this.weights = new double[standIns.size()];
+            this.groups = new int[standIns.size()];
+            for (int i = 0; i < this.standIns.length; i++) {
+                TrigramIndex.Expansion e = standIns.get(i);
+                this.standIns[i] = e.tokenId;
+                this.weights[i] = FUZZY_WEIGHT / (1 << (e.distance - 1));
+                this.groups[i] = groups.get(i);
+            }
+            int[] ids = Arrays.copyOf(tokens, tokens.length + this.standIns.length);
+            System.arraycopy(this.standIns, 0, ids, tokens.length, this.standIns.length);
+            Arrays.sort(ids);
+            this.lookupIds = ids;
+            this.bm25 = bm25;
+            if (bm25 != null)
+                prepareBm25();
+        }
+
+        private void prepareBm25() {
+            coefficients = bm25.idf(lookupIds);
+            idGroups = new int[lookupIds.length];
+            for (int i = 0; i < lookupIds.length; i++) {
+                idGroups[i] = -1;
+                for (int s = 0; s < standIns.length; s++) {
+                    if (standIns[s] == lookupIds[i]) {
+                        idGroups[i] = groups[s];
+                        coefficients[i] *= weights[s];
+                    }
+                }
+            }
+            for (double idf : bm25.idf(tokens))
+                maxScore += Bm25Index.maxContribution(idf);
+            contributions = new double[lookupIds.length];
+            groupBest = new double[typos.length];
+            groupToken = new int[typos.length];
+        }
+
+        // Query and stand-in tokens, sorted: what candidate lookups and cache entries depend on
+        int[] lookupIds() {
+            return lookupIds;
+        }
+
+        // Ranker and which stand-ins replace which words (queries with equal lookupIds
+        // may still differ in these)
+        String variant() {
+            StringBuilder sb = new StringBuilder(bm25 != null ? "bm25|" : "jaccard|");
+            for (int i = 0; i < standIns.length; i++)
+                sb.append(typos[groups[i]]).append('>').append(standIns[i]).append(';');
+            return sb.toString();
+        }
+
+        /**
+         * Scores an item; matched words (stand-ins as "wallet (~wallett)") are added to
+         * keywords unless it is null.
+         */
+        double score(Item item, List<String> keywords) {
+            return bm25 != null ? bm25Score(item.ordinal, keywords) : jaccardScore(item.getTokenIds(), keywords);
+        }
+
+        private double bm25Score(int ordinal, List<String> keywords) {
+            if (maxScore <= 0 || !bm25.contributions(ordinal, lookupIds, coefficients, contributions))
+                return 0.0;
+            Arrays.fill(groupBest, 0.0);
+            double score = 0;
+            for (int i = 0; i < lookupIds.length; i++) {
+                double c = contributions[i];
+                if (c == 0)
+                    continue;
+                int g = idGroups[i];
+                if (g < 0) {
+                    score += c;
+                    if (keywords != null)
+                        keywords.add(TOKENS.token(lookupIds[i]));
+                } else if (c > groupBest[g]) {
+                    // a misspelled word counts once, by its best stand-in
+                    groupBest[g] = c;
+                    groupToken[g] = lookupIds[i];
+                }
+            }
+            for (int g = 0; g < groupBest.length; g++) {
+                if (groupBest[g] == 0)
+                    continue;
+                score += groupBest[g];
+                if (keywords != null)
+                    keywords.add(TOKENS.token(groupToken[g]) + " (~" + typos[g] + ")");
+            }
+            return Math.min(1.0, score / maxScore);
+        }
+
+        private double jaccardScore(int[] itemTokens, List<String> keywords) {
+            int[] shared = keywords != null ? new int[tokens.length] : null;
+            int exact = intersect(tokens, itemTokens, shared);
+            if (keywords != null)
+                keywords.addAll(tokenStrings(shared, exact));
+            double matched = exact;
+            int pairs = exact;
+            for (int i = 0; i < standIns.length; i++) {
+                if (Arrays.binarySearch(itemTokens, standIns[i]) < 0)
+                    continue;
+                // nearest stand-in of this word found; skip the rest of its group
+                matched += weights[i];
+                pairs++;
+                if (keywords != null)
+                    keywords.add(TOKENS.token(standIns[i]) + " (~" + typos[groups[i]] + ")");
+                int g = groups[i];
+                while (i + 1 < standIns.length && groups[i + 1] == g)
+                    i++;
+            }
+            int union = tokens.length + itemTokens.length - pairs;
+            return union == 0 ? 0.0 : matched / union;
+        }
+    }
+
     // Helper class for matches with keywords
     private static class MatchWithKeywords {
         Item item;
         double score;
-        java.util.Set<String> matchingKeywords;
+        java.util.List<String> matchingKeywords;
 
-        MatchWithKeywords(Item i, double s, java.util.Set<String> keywords) {
+        MatchWithKeywords(Item i, double s, java.util.List<String> keywords) {
             item = i;
             score = s;
             matchingKeywords = keywords;
         }
     }
 
+    /**
+     * Outcome of submitItem: the new item id (null if rejected) and the qualification
+     * details.
+     */
+    public static class SubmitResult {
+        private final String itemId; // null when rejected
+        private final String details;
+
+        SubmitResult(String itemId, String details) {
+            this.itemId = itemId;
+            this.details = details;
+        }
+
+        public boolean isAccepted() {
+            return itemId != null;
+        }
+
+        public String getItemId() {
+            return itemId;
+        }
+
+        public String getDetails() {
+            return details;
+        }
+    }
+
+    /**
+     * One ranked search hit: item id, score (0..1, see Ranker) and the query tokens
+     * the item shares.
+     */
+    public static class SearchResult {
+        private final String itemId;
+        private final double score;
+        private final java.util.List<String> matchedKeywords;
+
+        SearchResult(String itemId, double score, java.util.List<String> matchedKeywords) {
+            this.itemId = itemId;
+            this.score = score;
+            this.matchedKeywords = java.util.Collections.unmodifiableList(matchedKeywords);
+        }
+
+        public String getItemId() {
+            return itemId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public java.util.List<String> getMatchedKeywords() {
+            return matchedKeywords;
+        }
+    }
+
+    /**
+     * Search scoring: JACCARD weighs every word the same; BM25 weighs words by rarity
+     * and by the field they occur in (name, description, location).
+     */
+    public enum Ranker {
+        JACCARD, BM25
+    }
+
+    /**
+     * Sort keys for listItemsPage; STORAGE is the order items were added in.
+     */
+    public enum ItemSort {
+        STORAGE, DATE_FOUND, CATEGORY, LOCATION, VALUE, STATUS
+    }
+
+    /**
+     * Read-only copy of one item for table rows.
+     */
+    public static class ItemRow {
+        private final String id;
+        private final String name;
+        private final String category;
+        private final String location;
+        private final LocalDate dateFound;
+        private final double estimatedValue;
+        private final String status;
+
+        ItemRow(Item it) {
+            this.id = it.id;
+            this.name = it.getName();
+            this.category = it.getCategory();
+            this.location = it.getLocation();
+            this.dateFound = it.dateFound;
+            this.estimatedValue = it.estimatedValue;
+            this.status = it.status;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public LocalDate getDateFound() {
+            return dateFound;
+        }
+
+        public double getEstimatedValue() {
+            return estimatedValue;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+    }
+
+    /**
+     * Rows offset .. offset + rows - 1 of a listing with total rows.
+     */
+    public static class ItemPage {
+        private final java.util.List<ItemRow> rows;
+        private final int offset;
+        private final int total;
+
+        ItemPage(java.util.List<ItemRow> rows, int offset, int total) {
+            this.rows = java.util.Collections.unmodifiableList(rows);
+            this.offset = offset;
+            this.total = total;
+        }
+
+        public java.util.List<ItemRow> getRows() {
+            return rows;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+
+    private static class SortedView {
+        final ItemSort sort;
+        final boolean ascending;
+        final int archiveSize;
+        final long[] archiveOffsets;
+        // the SortIndex, bound to its keys; null for STORAGE and STATUS
+        final java.util.function.Function<ItemStore.Snapshot<Item>, SortIndex.Rows> index;
+
+        SortedView(ItemSort sort, boolean ascending, int archiveSize, long[] archiveOffsets,
+                java.util.function.Function<ItemStore.Snapshot<Item>, SortIndex.Rows> index) {
+            this.sort = sort;
+            this.ascending = ascending;
+            this.archiveSize = archiveSize;
+            this.archiveOffsets = archiveOffsets;
+            this.index = index;
+        }
+
+        // Rows in order, lazily; may include ordinals past the snapshot (skip them)
+        java.util.stream.IntStream rows(ItemStore.Snapshot<Item> items) {
+            int size = items.size();
+            java.util.stream.IntStream archived = java.util.stream.IntStream.range(0, archiveOffsets.length)
+                    .map(k -> Integer.MIN_VALUE + k);
+            if (index != null) {
+                SortIndex.Rows rows = index.apply(items);
+                return java.util.Arrays.stream(rows.array, 0, rows.length);
+            }
+            if (sort == ItemSort.STATUS) {
+                // ACTIVE sorts before REMOVED; each group keeps storage order
+                java.util.stream.IntStream active = java.util.stream.IntStream.range(0, size)
+                        .filter(o -> items.get(o).status.equals("ACTIVE"));
+                java.util.stream.IntStream others = java.util.stream.IntStream.concat(archived,
+                        java.util.stream.IntStream.range(0, size).filter(o -> !items.get(o).status.equals("ACTIVE")));
+                return ascending ? java.util.stream.IntStream.concat(active, others)
+                        : java.util.stream.IntStream.concat(others, active);
+            }
+            if (ascending)
+                return java.util.stream.IntStream.concat(archived, java.util.stream.IntStream.range(0, size));
+            return java.util.stream.IntStream.concat(java.util.stream.IntStream.range(0, size).map(i -> size - 1 - i),
+                    archived.map(r -> Integer.MIN_VALUE + archiveOffsets.length - 1 - (r - Integer.MIN_VALUE)));
+        }
+
+        // one positional read; used for the rows of a page only
+        Item archivedRow(int row) {
+            return archivedItem(archiveOffsets[row - Integer.MIN_VALUE]);
+        }
+    }
+
     // Public method for GUI to load data
     public void loadData() {
         loadItemsFromFile();
@@ -859,14 +2295,14 @@ public class LostAndFoundSystem {
     // Helper method to get active items for removal dialog
     public java.util.List<String[]> getActiveItemsForDialog() {
         java.util.List<String[]> result = new java.util.ArrayList<>();
-        for (Item it : foundItems) {
+        for (Item it : store.snapshot()) {
             if (it.status.equals("ACTIVE")) {
                 // Return array: [id, formatted display]
                 String display = String.format("ID: %s | Name: %s | Cat: %s | Loc: %s",
                         it.id.substring(0, Math.min(8, it.id.length())),
-                        it.name,
-                        it.category,
-                        it.location);
+                        it.getName(),
+                        it.getCategory(),
+                        it.getLocation());
                 result.add(new String[] { it.id, display });
             }
         }
@@ -0,0 +1,160 @@
+package com.example.lostandfound;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+// MinHashLsh
+// Approximate candidate retrieval for very large stores:
+// 1. Each token set is reduced to a fixed-length MinHash signature (bands * rows values)
+// 2. The signature is cut into bands; items whose band values all agree land in the
+//    same bucket
+// 3. A query only looks at items sharing at least one bucket with it
+// The probability that two sets with Jaccard similarity s collide in some band is
+// 1 - (1 - s^rows)^bands, so more bands raise recall and more rows raise precision.
+// Reads are lock-free (buckets are replaced, never changed in place); writers must be
+// serialized by the caller.
+class MinHashLsh {
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+    private final Map<Long, Bucket>[] buckets;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    MinHashLsh(int bands, int rows) {
+        if (bands < 1 || rows < 1)
+            throw new IllegalArgumentException("bands and rows must be positive");
+        this.bands = bands;
+        this.rows = rows;
+        this.seeds = new long[bands * rows];
+        Random rnd = new Random(0x5eedL); // fixed so signatures are reproducible
+        for (int i = 0; i < seeds.length; i++)
+            seeds[i] = rnd.nextLong();
+        this.buckets = new Map[bands];
+        for (int b = 0; b < bands; b++)
+            buckets[b] = new ConcurrentHashMap<>();
+    }
+
+    int getBands() {
+        return bands;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    /**
+     * Probability that a pair with the given Jaccard similarity shares at least
+     * one bucket.
+     */
+    double collisionProbability(double similarity) {
+        return 1.0 - Math.pow(1.0 - Math.pow(similarity, rows), bands);
+    }
+
+    /**
+     * Signature over token ids (see TokenDictionary); unknown query tokens carry
+     * negative ids and simply hash like any other value.
+     */
+    int[] signature(int[] tokenIds) {
+        int[] sig = new int[seeds.length];
+        Arrays.fill(sig, Integer.MAX_VALUE);
+        for (int t : tokenIds) {
+            long base = mix(t * 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < seeds.length; i++) {
+                int h = (int) (mix(base ^ seeds[i]) >>> 33);
+                if (h < sig[i])
+                    sig[i] = h;
+            }
+        }
+        return sig;
+    }
+
+    void add(int ordinal, int[] signature) {
+        for (int b = 0; b < bands; b++)
+            buckets[b].compute(bandKey(signature, b), (k, old) -> (old == null ? Bucket.EMPTY : old).with(ordinal));
+    }
+
+    void remove(int ordinal, int[] signature) {
+        for (int b = 0; b < bands; b++)
+            buckets[b].computeIfPresent(bandKey(signature, b), (k, old) -> old.without(ordinal));
+    }
+
+    /**
+     * Returns the sorted, distinct ordinals of all items sharing a bucket with the
+     * given signature in at least one band.
+     */
+    int[] candidates(int[] signature) {
+        Bucket[] hits = new Bucket[bands];
+        int total = 0;
+        for (int b = 0; b < bands; b++) {
+            hits[b] = buckets[b].get(bandKey(signature, b));
+            if (hits[b] != null)
+                total += hits[b].size;
+        }
+        int[] all = new int[total];
+        int n = 0;
+        for (Bucket hit : hits) {
+            if (hit == null)
+                continue;
+            System.arraycopy(hit.ords, 0, all, n, hit.size);
+            n += hit.size;
+        }
+        Arrays.sort(all);
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (distinct == 0 || all[distinct - 1] != all[i])
+                all[distinct++] = all[i];
+        }
+        return Arrays.copyOf(all, distinct);
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long h = band;
+        for (int r = band * rows; r < (band + 1) * rows; r++)
+            h = mix(h * 31 + signature[r]);
+        return h;
+    }
+
+    // 64-bit finalizer from SplitMix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Unordered item ordinals ords[0, size) sharing one band value. Adding writes past
+    // size into spare capacity (invisible to holders of this instance) and returns a new
+    // instance; removing copies. Never changed where readers can see it.
+    private static final class Bucket {
+        static final Bucket EMPTY = new Bucket(new int[0], 0);
+
+        final int[] ords;
+        final int size;
+
+        private Bucket(int[] ords, int size) {
+            this.ords = ords;
+            this.size = size;
+        }
+
+        Bucket with(int ordinal) {
+            int[] target = size < ords.length ? ords : Arrays.copyOf(ords, Math.max(2, size * 2));
+            target[size] = ordinal;
+            return new Bucket(target, size + 1);
+        }
+
+        // null when the bucket becomes empty (drops the map entry)
+        Bucket without(int ordinal) {
+            for (int i = 0; i < size; i++) {
+                if (ords[i] == ordinal) {
+                    if (size == 1)
+                        return null;
+                    int[] copy = Arrays.copyOf(ords, size);
+                    copy[i] = copy[size - 1];
+                    return new Bucket(copy, size - 1);
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.lostandfound;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// MutationLog
+// Append-only write-ahead log for store mutations. Each submit or removal appends one
+// short record instead of rewriting the whole store. A background checkpoint
+// periodically writes a compacted snapshot and starts a fresh log:
+// 1. Under the lock: capture the snapshot lines and rotate the log to <log>.old
+// 2. Outside the lock: write the snapshot, then delete <log>.old
+// Checkpoints never overlap (checkpointLock), so an older capture cannot replace a
+// newer snapshot and delete records it does not hold.
+// Startup replays the snapshot, then <log>.old (if a checkpoint was interrupted), then
+// the log. Replay must be idempotent since a record may already be in the snapshot.
+class MutationLog<T> {
+    static final String ADD = "ADD";
+    static final String STATUS = "STATUS";
+    static final String STATUSES = "STATUSES"; // one status for several ids, applied all or nothing
+
+    private final Path logFile;
+    private final Path rotatedFile;
+    private final Supplier<T> snapshotSource;
+    private final Predicate<T> snapshotWriter;
+    // held for a whole checkpoint; taken before this log's own lock, never after
+    private final Object checkpointLock = new Object();
+    private int checkpointEvery;
+    private long checkpointIntervalSeconds;
+
+    private BufferedWriter writer;
+    private int recordsSinceCheckpoint = 0;
+    private ScheduledExecutorService scheduler;
+    private boolean checkpointQueued = false;
+    private boolean exitHookRegistered = false;
+
+    /**
+     * @param snapshotSource called under this log's lock; must capture the full store
+     * @param snapshotWriter writes the captured store as the new snapshot (called without
+     *                       this log's lock, but never by two checkpoints at once) and
+     *                       returns false if it could not
+     */
+    MutationLog(Path logFile, Supplier<T> snapshotSource, Predicate<T> snapshotWriter,
+            int checkpointEvery, long checkpointIntervalSeconds) {
+        this.logFile = logFile;
+        this.rotatedFile = logFile.resolveSibling(logFile.getFileName() + ".old");
+        this.snapshotSource = snapshotSource;
+        this.snapshotWriter = snapshotWriter;
+        this.checkpointEvery = checkpointEvery;
+        this.checkpointIntervalSeconds = checkpointIntervalSeconds;
+    }
+
+    synchronized void setCheckpointPolicy(int everyRecords, long intervalSeconds) {
+        if (everyRecords > 0)
+            checkpointEvery = everyRecords;
+        if (intervalSeconds > 0 && intervalSeconds != checkpointIntervalSeconds) {
+            checkpointIntervalSeconds = intervalSeconds;
+            if (scheduler != null) {
+                scheduler.shutdown();
+                scheduler = null;
+                startScheduler();
+            }
+        }
+    }
+
+    synchronized void append(String record) {
+        appendAll(Collections.singletonList(record));
+    }
+
+    /**
+     * Appends several records with a single flush (e.g. a bulk import). Each record is
+     * still replayed on its own.
+     */
+    synchronized void appendAll(Iterable<String> records) {
+        int count = 0;
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(logFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                startScheduler();
+                if (!exitHookRegistered) {
+                    Runtime.getRuntime().addShutdownHook(new Thread(this::close, "store-checkpoint-exit"));
+                    exitHookRegistered = true;
+                }
+            }
+            for (String record : records) {
+                writer.write(record);
+                writer.newLine();
+                count++;
+            }
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Error appending to mutation log: " + e.getMessage());
+            return;
+        }
+        recordsSinceCheckpoint += count;
+        if (recordsSinceCheckpoint >= checkpointEvery && !checkpointQueued) {
+            checkpointQueued = true;
+            scheduler.execute(this::checkpoint);
+        }
+    }
+
+    /**
+     * Writes a compacted snapshot and truncates the log. Safe to call from any thread.
+     */
+    void checkpoint() {
+        synchronized (checkpointLock) {
+            T snapshot;
+            synchronized (this) {
+                checkpointQueued = false;
+                if (recordsSinceCheckpoint == 0 && !Files.exists(rotatedFile))
+                    return;
+                snapshot = snapshotSource.get();
+                try {
+                    if (writer != null) {
+                        writer.close();
+                        writer = null;
+                    }
+                    if (Files.exists(logFile)) {
+                        if (Files.exists(rotatedFile)) {
+                            // an earlier checkpoint never finished; keep its records in front
+                            Files.write(rotatedFile, Files.readAllBytes(logFile), StandardOpenOption.APPEND);
+                            Files.delete(logFile);
+                        } else {
+                            Files.move(logFile, rotatedFile, StandardCopyOption.REPLACE_EXISTING);
+                        }
+                    }
+                    writer = Files.newBufferedWriter(logFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                } catch (IOException e) {
+                    System.err.println("Checkpoint aborted, could not rotate mutation log: " + e.getMessage());
+                    return;
+                }
+                recordsSinceCheckpoint = 0;
+            }
+
+            if (!snapshotWriter.test(snapshot))
+                return; // the rotated log is replayed at next startup or folded into the next checkpoint
+            try {
+                Files.deleteIfExists(rotatedFile);
+            } catch (IOException e) {
+                System.err.println("Warning: Could not delete rotated mutation log: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Feeds every record of the rotated log and the live log (in that order) to the
+     * handler. Unreadable records (e.g. a torn last write) are skipped.
+     */
+    void replay(Consumer<String> handler) {
+        for (Path p : new Path[] { rotatedFile, logFile }) {
+            if (!Files.exists(p))
+                continue;
+            try (BufferedReader r = Files.newBufferedReader(p)) {
+                String line;
+                while ((line = r.readLine()) != null) {
+                    if (line.trim().isEmpty())
+                        continue;
+                    try {
+                        handler.accept(line);
+                    } catch (Exception e) {
+                        System.err.println("Skipping malformed log record: " + line);
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Error reading mutation log: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Checkpoints and stops the background thread (used on exit). Waits for a
+     * checkpoint already running on that thread.
+     */
+    void close() {
+        checkpoint();
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdown();
+                scheduler = null;
+            }
+            try {
+                if (writer != null) {
+                    writer.close();
+                    writer = null;
+                }
+            } catch (IOException e) {
+                System.err.println("Error closing mutation log: " + e.getMessage());
+            }
+        }
+    }
+
+    private void startScheduler() {
+        if (scheduler != null)
+            return;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "store-checkpoint");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkpoint, checkpointIntervalSeconds, checkpointIntervalSeconds,
+                TimeUnit.SECONDS);
+    }
+}
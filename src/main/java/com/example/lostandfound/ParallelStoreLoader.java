@@ -0,0 +1,201 @@
+package com.example.lostandfound;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// ParallelStoreLoader
+// Loads a line-oriented store file in parallel:
+// 1. split  - cut the file into byte ranges that end right after a '\n'
+// 2. parse  - decode and parse every range on a ForkJoinPool
+// 3. merge  - concatenate results and replay console notes in original file order
+// Lines are split like BufferedReader.readLine ('\n', '\r' or "\r\n"), blank lines are
+// skipped and lines the parser rejects are reported and skipped, so the outcome is the
+// same as a sequential read.
+class ParallelStoreLoader<T> {
+    private static final int PROBE_BYTES = 8192;
+
+    // Parses one line; notes are console messages to print in file order (e.g. migrations)
+    interface LineParser<T> {
+        T parse(String line, List<String> notes) throws Exception;
+    }
+
+    static final class Result<T> {
+        final List<T> items;
+        final int chunks;
+        final long splitNanos;
+        final long parseNanos;
+        final long mergeNanos;
+
+        Result(List<T> items, int chunks, long splitNanos, long parseNanos, long mergeNanos) {
+            this.items = items;
+            this.chunks = chunks;
+            this.splitNanos = splitNanos;
+            this.parseNanos = parseNanos;
+            this.mergeNanos = mergeNanos;
+        }
+    }
+
+    private final LineParser<T> parser;
+    private final ForkJoinPool pool;
+    private final int chunkBytes;
+
+    ParallelStoreLoader(LineParser<T> parser, ForkJoinPool pool, int chunkBytes) {
+        this.parser = parser;
+        this.pool = pool;
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * @throws CharacterCodingException if the file is not valid UTF-8 (callers fall back
+     *                                  to a sequential reader, which stops at that line)
+     */
+    Result<T> load(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long t0 = System.nanoTime();
+            long[] bounds = split(ch);
+            long t1 = System.nanoTime();
+
+            List<ForkJoinTask<Chunk<T>>> tasks = new ArrayList<>(bounds.length - 1);
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                long from = bounds[i];
+                long to = bounds[i + 1];
+                tasks.add(pool.submit(() -> parseRange(ch, from, to)));
+            }
+            List<Chunk<T>> chunks = new ArrayList<>(tasks.size());
+            for (ForkJoinTask<Chunk<T>> task : tasks)
+                chunks.add(join(task));
+            long t2 = System.nanoTime();
+
+            int total = 0;
+            for (Chunk<T> c : chunks)
+                total += c.items.size();
+            List<T> items = new ArrayList<>(total);
+            for (Chunk<T> c : chunks) {
+                for (Note n : c.notes) {
+                    if (n.error)
+                        System.err.println(n.text);
+                    else
+                        System.out.println(n.text);
+                }
+                items.addAll(c.items);
+            }
+            long t3 = System.nanoTime();
+            return new Result<>(items, chunks.size(), t1 - t0, t2 - t1, t3 - t2);
+        }
+    }
+
+    // Range boundaries: 0, each cut just after a '\n', file size
+    private long[] split(FileChannel ch) throws IOException {
+        long size = ch.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_BYTES);
+        long pos = chunkBytes;
+        while (pos < size) {
+            long cut = -1;
+            long scan = pos;
+            while (cut < 0 && scan < size) {
+                probe.clear();
+                int n = ch.read(probe, scan);
+                if (n <= 0)
+                    break;
+                for (int i = 0; i < n; i++) {
+                    if (probe.get(i) == '\n') {
+                        cut = scan + i + 1;
+                        break;
+                    }
+                }
+                scan += n;
+            }
+            if (cut < 0 || cut >= size)
+                break;
+            bounds.add(cut);
+            pos = cut + chunkBytes;
+        }
+        bounds.add(size);
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++)
+            result[i] = bounds.get(i);
+        return result;
+    }
+
+    private Chunk<T> parseRange(FileChannel ch, long from, long to) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate((int) (to - from));
+        while (bytes.hasRemaining()) {
+            if (ch.read(bytes, from + bytes.position()) < 0)
+                break;
+        }
+        bytes.flip();
+        CharBuffer chars = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(bytes);
+
+        Chunk<T> chunk = new Chunk<>();
+        List<String> notes = new ArrayList<>(0);
+        int start = 0;
+        int len = chars.length();
+        while (start < len) {
+            int end = start;
+            while (end < len && chars.get(end) != '\n' && chars.get(end) != '\r')
+                end++;
+            String line = chars.subSequence(start, end).toString();
+            if (end < len && chars.get(end) == '\r' && end + 1 < len && chars.get(end + 1) == '\n')
+                end++;
+            start = end + 1;
+
+            if (line.trim().isEmpty())
+                continue;
+            try {
+                T item = parser.parse(line, notes);
+                for (String n : notes)
+                    chunk.notes.add(new Note(false, n));
+                chunk.items.add(item);
+            } catch (Exception e) {
+                chunk.notes.add(new Note(true, "Skipping malformed line: " + line));
+            }
+            notes.clear();
+        }
+        return chunk;
+    }
+
+    private static <T> Chunk<T> join(ForkJoinTask<Chunk<T>> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading store", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static final class Chunk<T> {
+        final List<T> items = new ArrayList<>();
+        final List<Note> notes = new ArrayList<>(0);
+    }
+
+    private static final class Note {
+        final boolean error;
+        final String text;
+
+        Note(boolean error, String text) {
+            this.error = error;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.lostandfound;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// QualificationEngine
+// Runs the item qualification rules in order and returns a QualificationResult
+// (per-rule pass/fail, reason and timing) instead of printing. Rules stop at the first
+// failure, as the console check always did. The engine holds only immutable state, so
+// one instance can evaluate items from any number of threads at once.
+class QualificationEngine {
+    // Acceptable item categories - personal or movable objects
+    private static final Set<String> ACCEPTABLE_KEYWORDS = new HashSet<>(Arrays.asList(
+            "handbag", "bag", "backpack", "purse", "tote", "satchel", "briefcase",
+            "wallet", "purse", "money", "cash", "coins", "creditcard", "card", "id", "identification", "passport",
+            "license",
+            "phone", "cellphone", "mobile", "smartphone", "tablet", "laptop", "notebook", "computer", "device",
+            "book", "textbook", "notebook", "journal", "diary", "magazine", "newspaper", "document", "paper",
+            "watch", "ring", "necklace", "bracelet", "earrings", "jewelry", "accessory", "glasses", "sunglasses",
+            "keys", "key", "keychain", "remote", "camera", "charger", "cable", "headphones", "earbuds", "airpods",
+            "clothing", "shirt", "pants", "jacket", "coat", "hat", "cap", "scarf", "gloves", "belt", "shoes", "boots"));
+
+    // Explicitly excluded categories
+    private static final Set<String> EXCLUDED_KEYWORDS = new HashSet<>(Arrays.asList(
+            "food", "drink", "beverage", "water", "soda", "coffee", "tea", "juice", "milk", "beer", "wine", "alcohol",
+            "sandwich", "burger", "pizza", "snack", "candy", "chocolate", "cookie", "cake", "bread", "fruit",
+            "vegetable",
+            "tissue", "tissues", "napkin", "napkins", "paper", "toilet", "bottle", "plastic", "container", "cup", "mug",
+            "disposable", "trash", "garbage", "waste", "perishable", "expired", "rotten", "moldy", "stale"));
+
+    // Low-value disposable items (regardless of keywords)
+    private static final Set<String> DISPOSABLE_KEYWORDS = new HashSet<>(Arrays.asList(
+            "tissue", "tissues", "napkin", "napkins", "toilet", "paper", "plastic", "bottle", "cup", "container",
+            "disposable", "wrapper", "packaging", "bag", "trash", "garbage"));
+
+    // Items that are clearly not tangible or storable
+    private static final Set<String> NON_TANGIBLE_KEYWORDS = new HashSet<>(Arrays.asList(
+            "digital", "virtual", "online", "software", "app", "data", "file", "memory",
+            "cloud", "streaming", "download", "electronic", "email", "message"));
+
+    // Valuable keywords that indicate importance regardless of estimated value
+    private static final Set<String> HIGH_VALUE_KEYWORDS = new HashSet<>(Arrays.asList(
+            "passport", "license", "id", "identification", "credit", "card", "debit",
+            "phone", "cellphone", "laptop", "tablet", "watch", "jewelry", "ring",
+            "keys", "key", "wallet", "purse", "handbag", "backpack", "briefcase"));
+
+    // All vocabularies above compiled into one automaton; bit i = vocabulary i matched
+    private static final int KW_ACCEPTABLE = 1;
+    private static final int KW_EXCLUDED = 1 << 1;
+    private static final int KW_DISPOSABLE = 1 << 2;
+    private static final int KW_NON_TANGIBLE = 1 << 3;
+    private static final int KW_HIGH_VALUE = 1 << 4;
+    private static final KeywordAutomaton QUALIFICATION_KEYWORDS = new KeywordAutomaton(Arrays.asList(
+            ACCEPTABLE_KEYWORDS, EXCLUDED_KEYWORDS, DISPOSABLE_KEYWORDS, NON_TANGIBLE_KEYWORDS, HIGH_VALUE_KEYWORDS));
+
+    // contact must contain this pattern or an '@'
+    private static final Pattern CONTACT_DIGIT = Pattern.compile(".*\\\\d.*");
+
+    private final double minValue;
+    private final double perishableMinValue;
+
+    /**
+     * @param minValue           value at or above which any item is worth tracking
+     * @param perishableMinValue minimum value for perishable items
+     */
+    QualificationEngine(double minValue, double perishableMinValue) {
+        this.minValue = minValue;
+        this.perishableMinValue = perishableMinValue;
+    }
+
+    QualificationResult evaluate(LostAndFoundSystem.Item item) {
+        return evaluate(item.getName(), item.getDescription(), item.getLocation(), item.getContact(),
+                item.estimatedValue, item.perishable);
+    }
+
+    /**
+     * Qualifies submitted fields before any item exists, so rejected submissions never
+     * intern their words into the token dictionary.
+     */
+    QualificationResult evaluate(String name, String description, String location, String contact,
+            double estimatedValue, boolean perishable) {
+        long start = System.nanoTime();
+        List<QualificationResult.RuleOutcome> outcomes = new ArrayList<>(8);
+
+        // 1. Basic required field checks
+        long t = System.nanoTime();
+        String reason = null;
+        if (name.isEmpty() || description.isEmpty())
+            reason = "Name and description are required.";
+        else if (location.isEmpty())
+            reason = "Location is required.";
+        else if (contact.isEmpty())
+            reason = "Reporter contact is required.";
+        if (!record(outcomes, QualificationResult.Rule.REQUIRED_FIELDS, reason, t))
+            return new QualificationResult(estimatedValue, outcomes, 0, System.nanoTime() - start);
+
+        // 2. Contact validation
+        t = System.nanoTime();
+        reason = CONTACT_DIGIT.matcher(contact).matches() || contact.contains("@") ? null
+                : "Contact seems invalid. Provide phone number or email.";
+        if (!record(outcomes, QualificationResult.Rule.CONTACT, reason, t))
+            return new QualificationResult(estimatedValue, outcomes, 0, System.nanoTime() - start);
+
+        // 3. Location validation - allows free-form entries (e.g., "GEB-205", "STC-3F")
+        t = System.nanoTime();
+        reason = isValidInstitutionLocation(location) ? null : "Location is required and cannot be empty.";
+        if (!record(outcomes, QualificationResult.Rule.LOCATION, reason, t))
+            return new QualificationResult(estimatedValue, outcomes, 0, System.nanoTime() - start);
+
+        // Every keyword rule below reads this one pass over name + description
+        t = System.nanoTime();
+        int keywords = QUALIFICATION_KEYWORDS.match(name, description);
+        long scanNanos = System.nanoTime() - t;
+
+        // 4. Exclusion check - food, beverages, disposables
+        t = System.nanoTime();
+        reason = !isExcludedItem(keywords) ? null
+                : "Item is explicitly excluded (food, beverages, or disposable items).\n"
+                        + "   Excluded: Food, drinks, tissues, plastic bottles, disposable containers, etc.";
+        if (!record(outcomes, QualificationResult.Rule.NOT_EXCLUDED, reason, t))
+            return new QualificationResult(estimatedValue, outcomes, scanNanos, System.nanoTime() - start);
+
+        // 5. Tangible and storable check
+        t = System.nanoTime();
+        reason = isTangibleAndStorable(keywords) ? null
+                : "Item must be tangible and capable of being stored.\n"
+                        + "   Digital/virtual items are not acceptable.";
+        if (!record(outcomes, QualificationResult.Rule.TANGIBLE, reason, t))
+            return new QualificationResult(estimatedValue, outcomes, scanNanos, System.nanoTime() - start);
+
+        // 6. Personal or movable object check
+        t = System.nanoTime();
+        reason = isPersonalOrMovableItem(keywords) ? null
+                : "Only personal or movable objects are acceptable.\n"
+                        + "   Acceptable: handbags, wallets, phones, books, accessories, clothing, etc.";
+        if (!record(outcomes, QualificationResult.Rule.PERSONAL_OR_MOVABLE, reason, t))
+            return new QualificationResult(estimatedValue, outcomes, scanNanos, System.nanoTime() - start);
+
+        // 7. Value and importance check
+        t = System.nanoTime();
+        reason = hasSufficientValue(keywords, estimatedValue) ? null
+                : String.format("Item lacks sufficient value (%.2f PHP) or importance.\n", estimatedValue)
+                        + String.format("   Minimum value threshold: %.2f PHP or must contain valuable keywords.\n",
+                                minValue)
+                        + "   Valuable items: phones, laptops, wallets, keys, jewelry, identification, etc.";
+        if (!record(outcomes, QualificationResult.Rule.VALUE, reason, t))
+            return new QualificationResult(estimatedValue, outcomes, scanNanos, System.nanoTime() - start);
+
+        // 8. Perishability check - if marked perishable and low value, reject
+        t = System.nanoTime();
+        reason = !(perishable && estimatedValue < perishableMinValue) ? null
+                : String.format("Perishable item with low value (%.2f PHP).\n", estimatedValue)
+                        + String.format("   Perishable items must have minimum value of %.2f PHP.",
+                                perishableMinValue);
+        record(outcomes, QualificationResult.Rule.PERISHABLE, reason, t);
+        return new QualificationResult(estimatedValue, outcomes, scanNanos, System.nanoTime() - start);
+    }
+
+    // Adds the outcome of one rule (reason == null means passed) and returns whether it passed
+    private static boolean record(List<QualificationResult.RuleOutcome> outcomes, QualificationResult.Rule rule,
+            String reason, long startNanos) {
+        outcomes.add(new QualificationResult.RuleOutcome(rule, reason == null, reason,
+                System.nanoTime() - startNanos));
+        return reason == null;
+    }
+
+    /**
+     * Validates if the location is non-empty (allows free-form campus locations)
+     */
+    private static boolean isValidInstitutionLocation(String location) {
+        // Allow any non-empty location - users can enter classroom names with building
+        // prefixes
+        return location != null && !location.trim().isEmpty();
+    }
+
+    /**
+     * Determines if an item is a personal or movable object based on keywords
+     */
+    private static boolean isPersonalOrMovableItem(int keywords) {
+        return (keywords & KW_ACCEPTABLE) != 0;
+    }
+
+    /**
+     * Checks if an item is explicitly excluded (food, beverages, disposables)
+     */
+    private static boolean isExcludedItem(int keywords) {
+        return (keywords & (KW_EXCLUDED | KW_DISPOSABLE)) != 0;
+    }
+
+    /**
+     * Validates if an item meets the tangible and storable criteria
+     */
+    private static boolean isTangibleAndStorable(int keywords) {
+        return (keywords & KW_NON_TANGIBLE) == 0;
+    }
+
+    /**
+     * Validates if an item has sufficient value or importance to be worth tracking
+     */
+    private boolean hasSufficientValue(int keywords, double estimatedValue) {
+        // High-value threshold for automatic acceptance
+        if (estimatedValue >= minValue)
+            return true;
+
+        // Check for valuable keywords that indicate importance regardless of estimated
+        // value
+        return (keywords & KW_HIGH_VALUE) != 0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.lostandfound;
+
+import java.util.Collections;
+import java.util.List;
+
+// QualificationResult
+// Immutable outcome of QualificationEngine.evaluate: one RuleOutcome per rule that ran
+// (rules after the first failure are not evaluated) plus timings. render() produces the
+// console text of the qualification check; callers print or display it themselves.
+final class QualificationResult {
+    enum Rule {
+        REQUIRED_FIELDS("Required fields"),
+        CONTACT("Contact"),
+        LOCATION("Institution location"),
+        NOT_EXCLUDED("Not excluded category"),
+        TANGIBLE("Tangible and storable"),
+        PERSONAL_OR_MOVABLE("Personal/movable object"),
+        VALUE("Sufficient value/importance"),
+        PERISHABLE("Perishability");
+
+        final String label;
+
+        Rule(String label) {
+            this.label = label;
+        }
+    }
+
+    static final class RuleOutcome {
+        final Rule rule;
+        final boolean passed;
+        final String reason; // null when passed; may span several lines
+        final long nanos;
+
+        RuleOutcome(Rule rule, boolean passed, String reason, long nanos) {
+            this.rule = rule;
+            this.passed = passed;
+            this.reason = reason;
+            this.nanos = nanos;
+        }
+    }
+
+    private final double estimatedValue;
+    private final List<RuleOutcome> outcomes;
+    private final long keywordScanNanos;
+    private final long totalNanos;
+
+    QualificationResult(double estimatedValue, List<RuleOutcome> outcomes, long keywordScanNanos, long totalNanos) {
+        this.estimatedValue = estimatedValue;
+        this.outcomes = Collections.unmodifiableList(outcomes);
+        this.keywordScanNanos = keywordScanNanos;
+        this.totalNanos = totalNanos;
+    }
+
+    boolean isAccepted() {
+        return outcomes.size() == Rule.values().length && outcomes.get(outcomes.size() - 1).passed;
+    }
+
+    /**
+     * The failed rule, or null if the item was accepted.
+     */
+    RuleOutcome getFailure() {
+        RuleOutcome last = outcomes.get(outcomes.size() - 1);
+        return last.passed ? null : last;
+    }
+
+    List<RuleOutcome> getOutcomes() {
+        return outcomes;
+    }
+
+    /**
+     * Time of the single keyword pass shared by the keyword rules (0 if not reached).
+     */
+    long getKeywordScanNanos() {
+        return keywordScanNanos;
+    }
+
+    long getTotalNanos() {
+        return totalNanos;
+    }
+
+    String render() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== ITEM QUALIFICATION CRITERIA CHECK ===\n");
+        RuleOutcome failure = getFailure();
+        if (failure != null) {
+            sb.append("[REJECTED] ").append(failure.reason).append('\n');
+            return sb.toString();
+        }
+        sb.append("[ACCEPTED] Item meets all qualification criteria.\n");
+        sb.append("   - Personal/movable object: PASS\n");
+        sb.append("   - Institution location: PASS\n");
+        sb.append("   - Tangible and storable: PASS\n");
+        sb.append(String.format("   - Sufficient value/importance: PASS (%.2f PHP)\n", estimatedValue));
+        sb.append("   - Not excluded category: PASS\n");
+        return sb.toString();
+    }
+}
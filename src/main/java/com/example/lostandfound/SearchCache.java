@@ -0,0 +1,171 @@
+package com.example.lostandfound;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+// SearchCache
+// LRU cache of search results, bounded by entry count and total weight (e.g. characters).
+// Key: the query's sorted token ids (with any stand-ins for misspelled words) plus the
+// search settings (threshold, mode).
+// Invalidation is per token instead of per store:
+// - every token has a version; the writer bumps the versions of an item's tokens after
+//   the item enters or leaves the search indexes
+// - an entry remembers the versions of its query tokens, read before it was computed
+// - a lookup whose remembered versions differ from the current ones is a miss
+// So a mutation only invalidates results of queries sharing a token with the changed
+// item (the only ones whose results can change). invalidateAll covers setting changes
+// that affect every result.
+class SearchCache<V> {
+    static final class Key {
+        private final int[] tokens; // sorted; unknown words are negative placeholders
+        private final String variant; // anything else the result depends on, e.g. typo stand-ins
+        private final double threshold;
+        private final boolean approximate;
+        private final int hash;
+
+        Key(int[] tokens, String variant, double threshold, boolean approximate) {
+            this.tokens = tokens;
+            this.variant = variant;
+            this.threshold = threshold;
+            this.approximate = approximate;
+            this.hash = 31 * (31 * (31 * Arrays.hashCode(tokens) + variant.hashCode()) + Double.hashCode(threshold))
+                    + Boolean.hashCode(approximate);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key))
+                return false;
+            Key k = (Key) o;
+            return hash == k.hash && threshold == k.threshold && approximate == k.approximate
+                    && Arrays.equals(tokens, k.tokens) && variant.equals(k.variant);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final int weight;
+        final long[] versions;
+        final long epoch;
+
+        Entry(V value, int weight, long[] versions, long epoch) {
+            this.value = value;
+            this.weight = weight;
+            this.versions = versions;
+            this.epoch = epoch;
+        }
+    }
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final ToIntFunction<V> weigher;
+    private final LinkedHashMap<Key, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true); // guarded by this
+    private long weight; // guarded by this
+
+    // token id -> version; replaced (grown) by the writer only
+    private volatile AtomicLongArray versions = new AtomicLongArray(1024);
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    SearchCache(int maxEntries, long maxWeight, ToIntFunction<V> weigher) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns the cached result for key if still valid, otherwise computes, caches and
+     * returns it. compute runs outside the cache lock.
+     */
+    V get(Key key, Supplier<V> compute) {
+        // read before computing: a mutation published meanwhile leaves the entry stale
+        long e = epoch.get();
+        long[] seen = versionsOf(key.tokens);
+        synchronized (this) {
+            Entry<V> cached = entries.get(key);
+            if (cached != null && cached.epoch == e && Arrays.equals(cached.versions, seen)) {
+                hits.incrementAndGet();
+                return cached.value;
+            }
+        }
+        misses.incrementAndGet();
+        V value = compute.get();
+        int w = weigher.applyAsInt(value);
+        if (w > maxWeight)
+            return value;
+        synchronized (this) {
+            Entry<V> previous = entries.put(key, new Entry<>(value, w, seen, e));
+            weight += w - (previous != null ? previous.weight : 0);
+            Iterator<Entry<V>> eldest = entries.values().iterator();
+            while (entries.size() > maxEntries || weight > maxWeight) {
+                weight -= eldest.next().weight;
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Called by the store's single writer after an item with these tokens entered or
+     * left the search indexes.
+     */
+    void tokensChanged(int[] tokenIds) {
+        AtomicLongArray v = versions;
+        int max = -1;
+        for (int t : tokenIds)
+            max = Math.max(max, t);
+        if (max >= v.length()) {
+            AtomicLongArray grown = new AtomicLongArray(Math.max(max + 1, v.length() * 2));
+            for (int i = 0; i < v.length(); i++)
+                grown.set(i, v.get(i));
+            versions = v = grown;
+        }
+        for (int t : tokenIds)
+            v.incrementAndGet(t);
+    }
+
+    /**
+     * Makes every cached entry stale (e.g. the candidate engine was rebuilt).
+     */
+    void invalidateAll() {
+        epoch.incrementAndGet();
+    }
+
+    /**
+     * hits, misses, evictions, entries and weight.
+     */
+    synchronized Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("evictions", evictions.get());
+        stats.put("entries", (long) entries.size());
+        stats.put("weight", weight);
+        return stats;
+    }
+
+    private long[] versionsOf(int[] tokens) {
+        AtomicLongArray v = versions;
+        long[] seen = new long[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            int t = tokens[i];
+            seen[i] = t >= 0 && t < v.length() ? v.get(t) : 0;
+        }
+        return seen;
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.lostandfound;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// ServerLauncher
+// Headless service mode: one LostAndFoundSystem (one store) shared by every desk over
+// HTTP, with JSON requests and responses:
+//   POST   /items          submit {"name", "description", "category", "location",
+//                          "dateFound", "estimatedValue", "perishable", "contact"}
+//   GET    /items/search   ?name=&desc=&loc=&category=&limit=&offset=
+//   GET    /items          ?removed=&sort=&asc=&offset=&limit= (one page of the list)
+//   GET    /items/{id}     look up an item by id or id prefix, archived ones included
+//   DELETE /items/{id}     mark the item REMOVED (full id)
+//   GET    /stats
+// Each request runs on its own virtual thread when available (Java 21+), otherwise on
+// a fixed pool sized for CPU-bound searches. Searches read immutable store snapshots,
+// so concurrent requests only wait for each other on writes.
+public class ServerLauncher {
+    private static final int DEFAULT_PORT = 8080;
+    private static final int BACKLOG = 4096; // pending connections before the OS refuses
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final int MAX_PAGE = 1000; // largest limit accepted for search and list
+
+    private final LostAndFoundSystem system;
+
+    private ServerLauncher(LostAndFoundSystem system) {
+        this.system = system;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String host = "127.0.0.1";
+        int port = DEFAULT_PORT;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--port") && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--bind") && i + 1 < args.length) {
+                host = args[++i];
+            } else {
+                System.err.println("Usage: ServerLauncher [--port N] [--bind ADDRESS]");
+                return;
+            }
+        }
+        LostAndFoundSystem system = new LostAndFoundSystem();
+        system.loadData();
+        HttpServer server = start(system, new InetSocketAddress(host, port));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1), "http-server-exit"));
+        System.out.println("Lost & Found service listening on http://" + host + ":" + server.getAddress().getPort());
+    }
+
+    /**
+     * Starts serving the given system; stop the returned server to shut down.
+     */
+    static HttpServer start(LostAndFoundSystem system, InetSocketAddress address) throws IOException {
+        ServerLauncher api = new ServerLauncher(system);
+        HttpServer server = HttpServer.create(address, BACKLOG);
+        server.createContext("/items", ex -> api.handle(ex, api::items));
+        server.createContext("/stats", ex -> api.handle(ex, api::stats));
+        server.setExecutor(newExecutor());
+        server.start();
+        return server;
+    }
+
+    private interface Route {
+        Response handle(HttpExchange ex) throws IOException;
+    }
+
+    private static final class Response {
+        final int status;
+        final String json;
+
+        Response(int status, String json) {
+            this.status = status;
+            this.json = json;
+        }
+    }
+
+    private void handle(HttpExchange ex, Route route) throws IOException {
+        Response r;
+        try {
+            r = route.handle(ex);
+        } catch (IllegalArgumentException | DateTimeParseException e) { // bad parameters or body
+            r = error(400, e.getMessage());
+        } catch (RuntimeException e) {
+            r = error(500, "Internal error: " + e);
+        }
+        byte[] body = r.json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        ex.sendResponseHeaders(r.status, body.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private Response items(HttpExchange ex) throws IOException {
+        String path = ex.getRequestURI().getPath();
+        String method = ex.getRequestMethod();
+        if (path.equals("/items") || path.equals("/items/")) {
+            if (method.equals("GET"))
+                return list(query(ex));
+            if (method.equals("POST"))
+                return submit(ex);
+            return error(405, "Use GET or POST");
+        }
+        if (!path.startsWith("/items/"))
+            return error(404, "Not found");
+        String rest = path.substring("/items/".length());
+        if (rest.equals("search"))
+            return method.equals("GET") ? search(query(ex)) : error(405, "Use GET");
+        if (method.equals("GET"))
+            return lookup(rest);
+        return method.equals("DELETE") ? remove(rest) : error(405, "Use GET or DELETE");
+    }
+
+    private Response submit(HttpExchange ex) throws IOException {
+        byte[] body = ex.getRequestBody().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES)
+            return error(413, "Request body larger than " + MAX_BODY_BYTES + " bytes");
+        Map<String, String> f = Json.parseFlatObject(new String(body, StandardCharsets.UTF_8));
+        // same field handling as a bulk import; bad values are a 400
+        String date = text(f, "dateFound");
+        String value = text(f, "estimatedValue");
+        double estimatedValue;
+        try {
+            estimatedValue = value.isEmpty() ? 0 : Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("estimatedValue is not a number: " + value);
+        }
+        LostAndFoundSystem.SubmitResult result = system.submitItem(text(f, "name"), text(f, "description"),
+                LostAndFoundSystem.submittedCategory(text(f, "category")), text(f, "location"),
+                date.isEmpty() ? LocalDate.now() : LocalDate.parse(date), estimatedValue,
+                LostAndFoundSystem.parseYesNo("perishable", text(f, "perishable")), text(f, "contact"));
+        StringBuilder sb = new StringBuilder("{\"accepted\":").append(result.isAccepted()).append(",\"id\":");
+        Json.appendString(sb, result.getItemId()).append(",\"details\":");
+        Json.appendString(sb, result.getDetails()).append('}');
+        return new Response(result.isAccepted() ? 201 : 422, sb.toString());
+    }
+
+    private Response search(Map<String, String> q) {
+        List<LostAndFoundSystem.SearchResult> results = system.searchLostItems(q.getOrDefault("name", ""),
+                q.getOrDefault("desc", ""), q.getOrDefault("loc", ""), q.get("category"), limit(q, 20),
+                intParam(q, "offset", 0));
+        StringBuilder sb = new StringBuilder("{\"results\":[");
+        for (int i = 0; i < results.size(); i++) {
+            LostAndFoundSystem.SearchResult r = results.get(i);
+            sb.append(i > 0 ? ",{\"id\":" : "{\"id\":");
+            Json.appendString(sb, r.getItemId()).append(",\"score\":").append(r.getScore()).append(",\"keywords\":[");
+            List<String> keywords = r.getMatchedKeywords();
+            for (int k = 0; k < keywords.size(); k++)
+                Json.appendString(k > 0 ? sb.append(',') : sb, keywords.get(k));
+            sb.append("]}");
+        }
+        return new Response(200, sb.append("]}").toString());
+    }
+
+    private Response list(Map<String, String> q) {
+        LostAndFoundSystem.ItemSort sort;
+        try {
+            sort = LostAndFoundSystem.ItemSort.valueOf(q.getOrDefault("sort", "STORAGE").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return error(400, "Unknown sort " + q.get("sort") + ", expected one of "
+                    + Arrays.toString(LostAndFoundSystem.ItemSort.values()));
+        }
+        LostAndFoundSystem.ItemPage page = system.listItemsPage(Boolean.parseBoolean(q.get("removed")), sort,
+                !"false".equals(q.get("asc")), intParam(q, "offset", 0), limit(q, 100));
+        StringBuilder sb = new StringBuilder("{\"total\":").append(page.getTotal()).append(",\"offset\":")
+                .append(page.getOffset()).append(",\"items\":[");
+        appendRows(sb, page.getRows());
+        return new Response(200, sb.append("]}").toString());
+    }
+
+    private Response lookup(String id) {
+        List<LostAndFoundSystem.ItemRow> rows = system.lookupItems(id, MAX_PAGE);
+        if (rows.isEmpty())
+            return error(404, "No item with id " + id);
+        return new Response(200, appendRows(new StringBuilder("{\"items\":["), rows).append("]}").toString());
+    }
+
+    private static StringBuilder appendRows(StringBuilder sb, List<LostAndFoundSystem.ItemRow> rows) {
+        for (int i = 0; i < rows.size(); i++) {
+            LostAndFoundSystem.ItemRow r = rows.get(i);
+            sb.append(i > 0 ? ",{\"id\":" : "{\"id\":");
+            Json.appendString(sb, r.getId()).append(",\"name\":");
+            Json.appendString(sb, r.getName()).append(",\"category\":");
+            Json.appendString(sb, r.getCategory()).append(",\"location\":");
+            Json.appendString(sb, r.getLocation()).append(",\"dateFound\":\"").append(r.getDateFound())
+                    .append("\",\"estimatedValue\":").append(r.getEstimatedValue()).append(",\"status\":");
+            Json.appendString(sb, r.getStatus()).append('}');
+        }
+        return sb;
+    }
+
+    private Response remove(String id) {
+        if (system.removeItems(Collections.singletonList(id)) == 0)
+            return error(404, "No active item with id " + id);
+        return new Response(200, "{\"removed\":1}");
+    }
+
+    private Response stats(HttpExchange ex) {
+        if (!ex.getRequestMethod().equals("GET"))
+            return error(405, "Use GET");
+        StringBuilder sb = new StringBuilder("{\"active\":").append(system.getActiveItemsCount())
+                .append(",\"today\":").append(system.getTodayItemsCount())
+                .append(",\"pending\":").append(system.getPendingItemsCount()).append(",\"byCategory\":{");
+        boolean first = true;
+        for (Map.Entry<String, Integer> e : system.getActiveItemsByCategory().entrySet()) {
+            Json.appendString(first ? sb : sb.append(','), e.getKey()).append(':').append(e.getValue());
+            first = false;
+        }
+        sb.append("},\"searchCache\":{");
+        first = true;
+        for (Map.Entry<String, Long> e : system.getSearchCacheStats().entrySet()) {
+            Json.appendString(first ? sb : sb.append(','), e.getKey()).append(':').append(e.getValue());
+            first = false;
+        }
+        return new Response(200, sb.append("}}").toString());
+    }
+
+    private static Response error(int status, String message) {
+        return new Response(status, Json.appendString(new StringBuilder("{\"error\":"), message).append('}')
+                .toString());
+    }
+
+    private static Map<String, String> query(HttpExchange ex) {
+        Map<String, String> params = new HashMap<>();
+        String raw = ex.getRequestURI().getRawQuery();
+        if (raw == null)
+            return params;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static int intParam(Map<String, String> q, String name, int defaultValue) {
+        String v = q.get(name);
+        int n = v == null ? defaultValue : Integer.parseInt(v);
+        if (n < 0)
+            throw new IllegalArgumentException(name + " must not be negative");
+        return n;
+    }
+
+    private static int limit(Map<String, String> q, int defaultValue) {
+        return Math.min(MAX_PAGE, intParam(q, "limit", defaultValue));
+    }
+
+    private static String text(Map<String, String> f, String field) {
+        String v = f.get(field);
+        return v == null ? "" : v.trim();
+    }
+
+    // Virtual thread per request on Java 21+ (looked up reflectively, the code base
+    // targets 17); otherwise a fixed pool of daemon threads, twice the core count
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newFixedThreadPool(Math.max(4, 2 * Runtime.getRuntime().availableProcessors()), r -> {
+                Thread t = new Thread(r, "http-worker-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+}
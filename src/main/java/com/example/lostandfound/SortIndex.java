@@ -0,0 +1,113 @@
+package com.example.lostandfound;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntFunction;
+
+// SortIndex
+// One sort order over the rows of the item store, kept across store versions. Rows are
+// ordinals, or negative references to rows held elsewhere (archived items); rows are
+// ordered by key, ties by row. A row's key must never change once it is in the index,
+// so a newer store version only has to place the ordinals appended since:
+// - each new row is binary-searched into the order, O(log n) key reads, so text
+//   fields of the other rows are not decoded again
+// - rows that land after every existing row are written past the published length,
+//   amortized O(1); anything else copies the order once per batch
+// Readers get a Rows view (array plus length) that later additions never change.
+class SortIndex<K> {
+    // Rows 0 .. length - 1 of array, in order
+    static final class Rows {
+        final int[] array;
+        final int length;
+
+        private Rows(int[] array, int length) {
+            this.array = array;
+            this.length = length;
+        }
+    }
+
+    private final Comparator<K> order;
+    private Rows rows;
+    private int covered; // ordinals below this are placed
+
+    /**
+     * Sorts the initial rows by key (ties by row).
+     *
+     * @param order   key order (already reversed for a descending index)
+     * @param initial every archived reference and the ordinals below covered
+     * @param key     key of any initial row
+     */
+    SortIndex(Comparator<K> order, int[] initial, int covered, IntFunction<K> key) {
+        this.order = order;
+        Integer[] boxed = new Integer[initial.length];
+        for (int i = 0; i < boxed.length; i++)
+            boxed[i] = initial[i];
+        Arrays.sort(boxed, (a, b) -> compare(a, key.apply(a), b, key.apply(b)));
+        int[] sorted = new int[boxed.length];
+        for (int i = 0; i < sorted.length; i++)
+            sorted[i] = boxed[i];
+        this.rows = new Rows(sorted, sorted.length);
+        this.covered = covered;
+    }
+
+    /**
+     * The order with every ordinal below size placed; key resolves any row (ordinal or
+     * reference) to its sort key.
+     */
+    synchronized Rows rows(int size, IntFunction<K> key) {
+        if (size <= covered)
+            return rows;
+        Integer[] added = new Integer[size - covered];
+        for (int i = 0; i < added.length; i++)
+            added[i] = covered + i;
+        Arrays.sort(added, (a, b) -> compare(a, key.apply(a), b, key.apply(b)));
+
+        int[] old = rows.array;
+        int length = rows.length;
+        int total = length + added.length;
+        int first = insertionPoint(old, 0, length, added[0], key);
+        int[] array;
+        if (first == length) {
+            // slots past length are not visible to any reader, so they can be written
+            array = total <= old.length ? old : Arrays.copyOf(old, Math.max(total, length * 2));
+            for (int i = 0; i < added.length; i++)
+                array[length + i] = added[i];
+        } else {
+            array = new int[Math.max(total, old.length)];
+            System.arraycopy(old, 0, array, 0, first);
+            int n = first;
+            int from = first;
+            for (int a : added) {
+                int pos = insertionPoint(old, from, length, a, key);
+                System.arraycopy(old, from, array, n, pos - from);
+                n += pos - from;
+                from = pos;
+                array[n++] = a;
+            }
+            System.arraycopy(old, from, array, n, length - from);
+        }
+        rows = new Rows(array, total);
+        covered = size;
+        return rows;
+    }
+
+    private int compare(int a, K keyA, int b, K keyB) {
+        int c = order.compare(keyA, keyB);
+        return c != 0 ? c : Integer.compare(a, b);
+    }
+
+    // First position in [from, to) whose row sorts after row
+    private int insertionPoint(int[] array, int from, int to, int row, IntFunction<K> key) {
+        K rowKey = key.apply(row);
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(array[mid], key.apply(array[mid]), row, rowKey) <= 0)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.lostandfound;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+// TokenDictionary
+// Global mapping from normalized token to a dense int id. Items keep their tokens
+// as a sorted int[] of ids, so similarity is a merge over two arrays instead of
+// set operations on strings. Lookups are lock-free; new ids are assigned under a lock.
+class TokenDictionary {
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] tokens = new String[256];
+    private int size = 0;
+
+    /**
+     * Returns the id for a token, assigning the next free id if it is new.
+     */
+    int intern(String token) {
+        Integer id = ids.get(token);
+        if (id != null)
+            return id;
+        synchronized (this) {
+            id = ids.get(token);
+            if (id != null)
+                return id;
+            if (size == tokens.length)
+                tokens = Arrays.copyOf(tokens, size * 2);
+            tokens[size] = token;
+            id = size++;
+            ids.put(token, id);
+            return id;
+        }
+    }
+
+    /**
+     * Returns the id for a known token, or -1.
+     */
+    int lookup(String token) {
+        Integer id = ids.get(token);
+        return id != null ? id : -1;
+    }
+
+    String token(int id) {
+        return tokens[id];
+    }
+
+    int size() {
+        return ids.size();
+    }
+
+    /**
+     * Interns every token and returns the ids sorted ascending (item side).
+     */
+    int[] internAll(Collection<String> tokenSet) {
+        int[] result = new int[tokenSet.size()];
+        int n = 0;
+        for (String t : tokenSet)
+            result[n++] = intern(t);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Maps query tokens to sorted ids without growing the dictionary. Unknown
+     * tokens get distinct negative ids: they never match an item but still count
+     * towards the union size.
+     */
+    int[] lookupAll(Collection<String> tokenSet) {
+        int[] result = new int[tokenSet.size()];
+        int n = 0;
+        int unknown = 0;
+        for (String t : tokenSet) {
+            int id = lookup(t);
+            result[n++] = id >= 0 ? id : -(++unknown);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+}
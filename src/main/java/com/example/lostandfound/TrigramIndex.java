@@ -0,0 +1,209 @@
+package com.example.lostandfound;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+// TrigramIndex
+// Character trigrams of the token vocabulary, for finding the known tokens closest to a
+// misspelled one without comparing it to every word:
+// 1. a word is padded ("$wallet$") and cut into trigrams ($wa, wal, all, let, et$);
+//    trigram -> ids of the vocabulary tokens containing it
+// 2. one edit changes at most 3 trigrams, so a token within k edits of the word shares
+//    at least (distinct trigrams of the word - 3k) of them; counting the shared trigrams
+//    over the word's postings leaves only a few candidates
+// 3. candidates are verified with a Levenshtein distance that gives up past k
+// Work per lookup depends on the postings of the word's own trigrams, not on the size
+// of the vocabulary. Reads are lock-free; add must be called by a single writer.
+class TrigramIndex {
+    private static final int ALPHABET = 37; // '$' (padding and anything else), a-z, 0-9
+
+    /**
+     * A vocabulary token and its edit distance from the looked-up word.
+     */
+    static final class Expansion {
+        final int tokenId;
+        final int distance;
+
+        Expansion(int tokenId, int distance) {
+            this.tokenId = tokenId;
+            this.distance = distance;
+        }
+    }
+
+    private final IntFunction<String> vocabulary;
+    // trigram code -> token ids; a holder is never changed once readers can see it
+    private final AtomicReferenceArray<Ids> postings = new AtomicReferenceArray<>(ALPHABET * ALPHABET * ALPHABET);
+    // token id -> length (0 = not indexed); writes happen before the id is published
+    private volatile byte[] lengths = new byte[1024];
+
+    TrigramIndex(IntFunction<String> vocabulary) {
+        this.vocabulary = vocabulary;
+    }
+
+    /**
+     * Edits tolerated for a word of this length: none below 4 characters (too many
+     * short words are one edit apart), 1 up to 7, then 2.
+     */
+    static int maxEdits(int length) {
+        return length < 4 ? 0 : length < 8 ? 1 : 2;
+    }
+
+    boolean contains(int tokenId) {
+        byte[] l = lengths;
+        return tokenId < l.length && l[tokenId] != 0;
+    }
+
+    /**
+     * Adds a vocabulary token; adding one twice is a no-op.
+     */
+    void add(int tokenId, String token) {
+        if (contains(tokenId))
+            return;
+        byte[] l = lengths;
+        if (tokenId >= l.length)
+            lengths = l = Arrays.copyOf(l, Math.max(tokenId + 1, l.length * 2));
+        l[tokenId] = (byte) Math.min(token.length(), Byte.MAX_VALUE);
+        for (int g : distinct(trigrams(token))) {
+            Ids p = postings.get(g);
+            postings.set(g, p == null ? Ids.EMPTY.with(tokenId) : p.with(tokenId));
+        }
+    }
+
+    /**
+     * Vocabulary tokens within maxEdits of word that pass the filter, nearest first
+     * (older tokens first on ties), at most limit of them. The word itself is never
+     * returned.
+     */
+    List<Expansion> expand(String word, int maxEdits, int limit, IntPredicate eligible) {
+        if (maxEdits <= 0 || limit <= 0)
+            return new ArrayList<>(0);
+        int[] grams = distinct(trigrams(word));
+        int minShared = grams.length - 3 * maxEdits;
+        byte[] l = lengths;
+
+        // ids of every token sharing a trigram with the word and of a possible length,
+        // once per shared trigram
+        Ids[] hits = new Ids[grams.length];
+        int total = 0;
+        for (int i = 0; i < grams.length; i++) {
+            hits[i] = postings.get(grams[i]);
+            if (hits[i] != null)
+                total += hits[i].size;
+        }
+        int[] all = new int[total];
+        int n = 0;
+        for (Ids p : hits) {
+            if (p == null)
+                continue;
+            for (int i = 0; i < p.size; i++) {
+                int id = p.ids[i];
+                if (Math.abs((id < l.length ? l[id] : 0) - word.length()) <= maxEdits)
+                    all[n++] = id;
+            }
+        }
+        Arrays.sort(all, 0, n);
+
+        List<Expansion> found = new ArrayList<>();
+        for (int i = 0; i < n;) {
+            int id = all[i];
+            int shared = 0;
+            while (i < n && all[i] == id) {
+                shared++;
+                i++;
+            }
+            if (shared < minShared || !eligible.test(id))
+                continue;
+            String token = vocabulary.apply(id);
+            int d = distance(word, token, maxEdits);
+            if (d > 0 && d <= maxEdits)
+                found.add(new Expansion(id, d));
+        }
+        // ids are ascending already, a stable sort keeps older tokens first on ties
+        found.sort((a, b) -> Integer.compare(a.distance, b.distance));
+        return found.size() > limit ? new ArrayList<>(found.subList(0, limit)) : found;
+    }
+
+    /**
+     * Levenshtein distance of a and b, or max + 1 once it is certain to exceed max.
+     */
+    static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max)
+            return max + 1;
+        int[] prev = new int[b.length() + 1];
+        int[] cur = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++)
+            prev[j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            cur[0] = i;
+            int rowMin = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                cur[j] = Math.min(Math.min(cur[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+                rowMin = Math.min(rowMin, cur[j]);
+            }
+            if (rowMin > max)
+                return max + 1;
+            int[] t = prev;
+            prev = cur;
+            cur = t;
+        }
+        return Math.min(prev[b.length()], max + 1);
+    }
+
+    // Codes of the trigrams of "$" + word + "$"
+    private static int[] trigrams(String word) {
+        int n = word.length();
+        int[] grams = new int[n];
+        int c0 = 0, c1 = code(n > 0 ? word.charAt(0) : '$');
+        for (int i = 0; i < n; i++) {
+            int c2 = i + 1 < n ? code(word.charAt(i + 1)) : 0;
+            grams[i] = (c0 * ALPHABET + c1) * ALPHABET + c2;
+            c0 = c1;
+            c1 = c2;
+        }
+        return grams;
+    }
+
+    private static int code(char c) {
+        if (c >= 'a' && c <= 'z')
+            return 1 + c - 'a';
+        if (c >= '0' && c <= '9')
+            return 27 + c - '0';
+        return 0;
+    }
+
+    private static int[] distinct(int[] grams) {
+        Arrays.sort(grams);
+        int n = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (n == 0 || grams[n - 1] != grams[i])
+                grams[n++] = grams[i];
+        }
+        return Arrays.copyOf(grams, n);
+    }
+
+    // Token ids ids[0, size); appends write past size into spare capacity (invisible to
+    // holders of this instance) and return a new instance
+    private static final class Ids {
+        static final Ids EMPTY = new Ids(new int[0], 0);
+
+        final int[] ids;
+        final int size;
+
+        private Ids(int[] ids, int size) {
+            this.ids = ids;
+            this.size = size;
+        }
+
+        Ids with(int id) {
+            int[] target = size < ids.length ? ids : Arrays.copyOf(ids, Math.max(4, size * 2));
+            target[size] = id;
+            return new Ids(target, size + 1);
+        }
+    }
+}
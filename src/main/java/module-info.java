@@ -1,6 +1,7 @@
 module com.example.lostandfound {
     requires javafx.controls;
     requires javafx.fxml;
+    requires jdk.httpserver;
 
 
     opens com.example.lostandfound to javafx.fxml;
@@ -0,0 +1,85 @@
+package com.example.lostandfound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BinarySnapshotTest {
+    @TempDir
+    Path dir;
+
+    private static LostAndFoundSystem.Item item(String id, String name, String description, String status,
+            double value, boolean perishable) {
+        return new LostAndFoundSystem.Item(id, name, description, "Wallet", LocalDate.of(2024, 2, 29),
+                "Library 2F", "0917 555 0101", value, perishable, status, LocalDateTime.of(2024, 3, 1, 8, 30, 15,
+                        123_456_789));
+    }
+
+    @Test
+    void writtenItemsReadBackUnchanged() throws IOException {
+        List<LostAndFoundSystem.Item> items = Arrays.asList(
+                item("id-1", "Black wallet", "Leather, with ID card", "ACTIVE", 500, false),
+                item("id-2", "Caf\u00e9 tumbler \ud83d\ude00", "", "REMOVED", 0.25, true),
+                item("id-3", "Umbrella", "unpaired \ud800 surrogate", "CLAIMED", 120, false));
+        Path file = dir.resolve("items.snap");
+        TokenDictionary dictionary = LostAndFoundSystem.tokenDictionary();
+        BinarySnapshot.write(file, items, dictionary, 0x5eed);
+
+        BinarySnapshot.Reader reader = BinarySnapshot.open(file);
+        assertEquals(3, reader.count);
+        assertEquals(0x5eed, reader.analyzer);
+        for (int row = 0; row < items.size(); row++) {
+            LostAndFoundSystem.Item it = items.get(row);
+            assertEquals(it.id, reader.text(row, BinarySnapshot.F_ID));
+            assertEquals(it.getName().replace("\ud800", "?"), reader.text(row, BinarySnapshot.F_NAME));
+            assertEquals(it.getDescription().replace("\ud800", "?"), reader.text(row, BinarySnapshot.F_DESCRIPTION));
+            assertEquals(it.getCategory(), reader.text(row, BinarySnapshot.F_CATEGORY));
+            assertEquals(it.getLocation(), reader.text(row, BinarySnapshot.F_LOCATION));
+            assertEquals(it.getContact(), reader.text(row, BinarySnapshot.F_CONTACT));
+            assertEquals(it.status, reader.status(row));
+            assertEquals(it.dateFound, reader.dateFound(row));
+            assertEquals(it.createdAt, reader.createdAt(row));
+            assertEquals(it.estimatedValue, reader.estimatedValue(row));
+            assertEquals(it.perishable, reader.perishable(row));
+
+            Set<String> expected = new HashSet<>();
+            for (int id : it.getTokenIds())
+                expected.add(dictionary.token(id));
+            Set<String> read = new HashSet<>();
+            for (int id : reader.tokenIds(row))
+                read.add(reader.token(id));
+            assertEquals(expected, read);
+        }
+    }
+
+    @Test
+    void emptyStoreRoundTrips() throws IOException {
+        Path file = dir.resolve("empty.snap");
+        BinarySnapshot.write(file, Collections.emptyList(), new TokenDictionary(), 7);
+
+        BinarySnapshot.Reader reader = BinarySnapshot.open(file);
+        assertEquals(0, reader.count);
+        assertEquals(0, reader.tokenCount);
+        assertEquals(7, reader.analyzer);
+    }
+
+    @Test
+    void rejectsFilesThatAreNotSnapshots() throws IOException {
+        Path file = dir.resolve("other.snap");
+        Files.write(file, new byte[200]);
+        assertThrows(IOException.class, () -> BinarySnapshot.open(file));
+    }
+}
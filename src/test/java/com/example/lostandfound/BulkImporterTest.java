@@ -0,0 +1,124 @@
+package com.example.lostandfound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BulkImporterTest {
+    @TempDir
+    Path dir;
+
+    private final List<LostAndFoundSystem.Item> committed = new ArrayList<>();
+    private int commits = 0;
+
+    private BulkImporter importer() {
+        return new BulkImporter(LostAndFoundSystem.QUALIFIER, ForkJoinPool.commonPool(), items -> {
+            commits++;
+            committed.addAll(items);
+        });
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path file = dir.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    // "row,result" of every report line after the header
+    private static List<String> results(BulkImporter.Result result) throws IOException {
+        List<String> results = new ArrayList<>();
+        List<String> lines = Files.readAllLines(result.reportFile);
+        assertEquals("row,result,id,detail", lines.get(0));
+        for (String line : lines.subList(1, lines.size())) {
+            String[] fields = line.split(",", 3);
+            results.add(fields[0] + "," + fields[1]);
+        }
+        return results;
+    }
+
+    @Test
+    void quotedCsvFieldsKeepCommasQuotesAndLineBreaks() throws IOException {
+        Path csv = write("items.csv", "Name,Description,Category,Location,Date Found,Value,Perishable,Contact\n"
+                + "\"Wallet, black\",\"Leather \"\"bifold\"\" wallet\n"
+                + "with ID card\",wallet,\"Library, 2F\",2024-05-01,500,no,juan@example.com\n"
+                + "\n"
+                + "Phone,Smartphone with cracked screen,Electronics,Gym,,1500,,\"ana@example.com\"\n");
+
+        BulkImporter.Result result = importer().importFile(csv, dir.resolve("report.csv"));
+
+        assertEquals(2, result.rows);
+        assertEquals(2, result.accepted);
+        assertEquals(1, commits);
+        LostAndFoundSystem.Item wallet = committed.get(0);
+        assertEquals("Wallet, black", wallet.getName());
+        assertEquals("Leather \"bifold\" wallet\nwith ID card", wallet.getDescription());
+        assertEquals("Wallet", wallet.getCategory());
+        assertEquals("Library, 2F", wallet.getLocation());
+        assertEquals(LocalDate.of(2024, 5, 1), wallet.dateFound);
+        assertEquals(500.0, wallet.estimatedValue);
+        assertFalse(wallet.perishable);
+        assertEquals("ACTIVE", wallet.status);
+
+        LostAndFoundSystem.Item phone = committed.get(1);
+        assertEquals("ana@example.com", phone.getContact());
+        assertEquals(LocalDate.now(), phone.dateFound);
+        assertEquals("Electronics", phone.getCategory());
+        // rows are numbered by their first line; the blank line is skipped
+        assertEquals(Arrays.asList("2,ACCEPTED", "5,ACCEPTED"), results(result));
+    }
+
+    @Test
+    void badRowsAreReportedWithoutStoppingTheImport() throws IOException {
+        Path csv = write("items.csv", "name,description,location,value,perishable,contact,date\n"
+                + "Sandwich,Half eaten sandwich,Canteen,20,yes,juan@example.com,\n"
+                + "Keys,Set of keys,Lobby,abc,no,juan@example.com,\n"
+                + "Keys,Set of keys,Lobby,80,maybe,juan@example.com,\n"
+                + "Keys,Set of keys,Lobby,80,no,juan@example.com,May 3\n"
+                + "Too,many,fields,1,no,juan@example.com,,extra\n"
+                + "Keys,Set of keys,Lobby,80,no,juan@example.com,2024-05-03\n"
+                + "\"Open quote,never closed\n");
+
+        BulkImporter.Result result = importer().importFile(csv, dir.resolve("report.csv"));
+
+        assertEquals(7, result.rows);
+        assertEquals(1, result.accepted);
+        assertEquals(1, result.rejected);
+        assertEquals(5, result.malformed);
+        assertEquals("Keys", committed.get(0).getName());
+        assertEquals(Arrays.asList("2,REJECTED", "3,MALFORMED", "4,MALFORMED", "5,MALFORMED", "6,MALFORMED",
+                "7,ACCEPTED", "8,MALFORMED"), results(result));
+    }
+
+    @Test
+    void nothingIsCommittedWithoutAcceptedRows() throws IOException {
+        Path csv = write("items.csv", "name,description\nSandwich,Half eaten sandwich\n");
+
+        BulkImporter.Result result = importer().importFile(csv, dir.resolve("report.csv"));
+
+        assertEquals(1, result.rows);
+        assertEquals(0, commits);
+        assertTrue(committed.isEmpty());
+    }
+
+    @Test
+    void rejectsEmptyAndUnsupportedFiles() throws IOException {
+        Path empty = write("empty.csv", "");
+        Path text = write("items.txt", "name\nWallet\n");
+        assertThrows(IOException.class, () -> importer().importFile(empty, dir.resolve("report.csv")));
+        assertThrows(IOException.class, () -> importer().importFile(text, dir.resolve("report.csv")));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.lostandfound;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class IdIndexTest {
+    private static IdIndex index() {
+        IdIndex index = new IdIndex();
+        index.add("3f2a9c10-aaaa", 0);
+        index.add("3f2a9c10-bbbb", 1);
+        index.add("3f2a9c11-cccc", 2);
+        index.add("77e01b4d-dddd", 3);
+        index.add("77e0", 4); // also a prefix of another id
+        return index;
+    }
+
+    @Test
+    void exactIdsResolveToOneOrdinal() {
+        IdIndex index = index();
+        assertEquals(5, index.size());
+        assertEquals(3, index.get("77e01b4d-dddd"));
+        assertEquals(-1, index.get("77e01b4d"));
+        assertArrayEquals(new int[] { 2 }, index.resolve("3f2a9c11-cccc", 5));
+    }
+
+    @Test
+    void exactIdWinsOverLongerIdsWithThatPrefix() {
+        assertArrayEquals(new int[] { 4 }, index().resolve("77e0", 5));
+    }
+
+    @Test
+    void uniquePrefixResolvesToOneOrdinal() {
+        assertArrayEquals(new int[] { 2 }, index().resolve("3f2a9c11", 5));
+        assertArrayEquals(new int[] { 3 }, index().resolve("77e01", 5));
+    }
+
+    @Test
+    void ambiguousPrefixReturnsEveryMatchInIdOrderUpToTheLimit() {
+        IdIndex index = index();
+        assertArrayEquals(new int[] { 0, 1 }, index.resolve("3f2a9c10", 5));
+        assertArrayEquals(new int[] { 0, 1, 2 }, index.resolve("3f2a", 5));
+        assertArrayEquals(new int[] { 0, 1 }, index.resolve("3f2a", 2));
+        assertArrayEquals(new int[] { 0 }, index.resolve("3f2a", 0)); // at least one
+    }
+
+    @Test
+    void unknownOrEmptyPrefixResolvesToNothing() {
+        IdIndex index = index();
+        assertArrayEquals(new int[0], index.resolve("3f2b", 5));
+        assertArrayEquals(new int[0], index.resolve("zz", 5));
+        assertArrayEquals(new int[0], index.resolve("", 5));
+        assertArrayEquals(new int[0], index.resolve(null, 5));
+    }
+}
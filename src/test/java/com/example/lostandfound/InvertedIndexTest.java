@@ -0,0 +1,75 @@
+package com.example.lostandfound;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+    @Test
+    void candidatesAreTheSortedDistinctUnionOfThePostings() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(5, new int[] { 1, 2 });
+        index.add(2, new int[] { 2, 3 });
+        index.add(9, new int[] { 1 });
+        index.add(0, new int[] { 3 });
+
+        assertArrayEquals(new int[] { 2, 5, 9 }, index.candidates(new int[] { 1, 2 }));
+        assertArrayEquals(new int[] { 0, 2, 5, 9 }, index.candidates(new int[] { 1, 2, 3 }));
+        assertArrayEquals(new int[] { 0, 2 }, index.candidates(new int[] { 3 }));
+        assertEquals(2, index.frequency(1));
+        assertEquals(2, index.frequency(3));
+    }
+
+    @Test
+    void unknownAndNegativeTokensMatchNothing() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(0, new int[] { 4 });
+
+        assertArrayEquals(new int[0], index.candidates(new int[0]));
+        assertArrayEquals(new int[0], index.candidates(new int[] { -2, -1, 7, 100_000 }));
+        assertArrayEquals(new int[] { 0 }, index.candidates(new int[] { -1, 4 }));
+        assertEquals(0, index.frequency(-1));
+        assertEquals(0, index.frequency(100_000));
+    }
+
+    @Test
+    void addingTheSameOrdinalTwiceKeepsOnePosting() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(3, new int[] { 1 });
+        index.add(1, new int[] { 1 });
+        index.add(3, new int[] { 1 });
+
+        assertEquals(2, index.frequency(1));
+        assertArrayEquals(new int[] { 1, 3 }, index.candidates(new int[] { 1 }));
+    }
+
+    @Test
+    void removeDropsOnlyTheGivenOrdinal() {
+        InvertedIndex index = new InvertedIndex();
+        for (int o = 0; o < 10; o++)
+            index.add(o, new int[] { 0, o % 2 == 0 ? 1 : 2 });
+        int[] before = index.candidates(new int[] { 1 });
+
+        index.remove(4, new int[] { 0, 1 });
+        index.remove(4, new int[] { 0, 1 }); // already gone
+        index.remove(7, new int[] { 99 }); // unknown token
+
+        assertArrayEquals(new int[] { 0, 2, 6, 8 }, index.candidates(new int[] { 1 }));
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 5, 6, 7, 8, 9 }, index.candidates(new int[] { 0 }));
+        assertArrayEquals(new int[] { 0, 2, 4, 6, 8 }, before); // results are copies
+    }
+
+    @Test
+    void tokenIdsPastTheInitialTableGrowIt() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(0, new int[] { 10 });
+        index.add(1, new int[] { 10, 5000 });
+
+        assertArrayEquals(new int[] { 0, 1 }, index.candidates(new int[] { 10 }));
+        assertArrayEquals(new int[] { 1 }, index.candidates(new int[] { 5000 }));
+
+        index.clear();
+        assertArrayEquals(new int[0], index.candidates(new int[] { 10, 5000 }));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.lostandfound;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ItemArchiveTest {
+    @TempDir
+    Path dir;
+
+    private ItemArchive archive() throws IOException {
+        ItemArchive archive = new ItemArchive(dir.resolve("items.seg"), dir.resolve("items.idx"));
+        archive.open();
+        return archive;
+    }
+
+    private static List<String> records(ItemArchive archive) throws IOException {
+        List<String> records = new ArrayList<>();
+        archive.forEach((record, offset) -> records.add(record));
+        return records;
+    }
+
+    private static String resolveOne(ItemArchive archive, String idOrPrefix) throws IOException {
+        long[] offsets = archive.resolve(idOrPrefix, 5);
+        assertEquals(1, offsets.length, idOrPrefix);
+        return archive.read(offsets[0]);
+    }
+
+    @Test
+    void emptyArchiveCreatesNoFiles() throws IOException {
+        ItemArchive archive = archive();
+        assertEquals(0, archive.size());
+        assertEquals(-1, archive.generation());
+        assertFalse(archive.contains("a"));
+        assertArrayEquals(new long[0], archive.resolve("a", 5));
+        assertTrue(records(archive).isEmpty());
+        assertEquals(0, archive.archive(Collections.emptyList(), Collections.emptyList(), 1));
+        assertFalse(Files.exists(dir.resolve("items.seg")));
+    }
+
+    @Test
+    void archiveMergesNewIdsIntoTheIndex() throws IOException {
+        ItemArchive archive = archive();
+        assertEquals(3, archive.archive(Arrays.asList("b2", "a1", "b1", "a1"),
+                Arrays.asList("rec b2", "rec a1", "rec b1 \u00e9", "rec a1 again"), 3));
+        // b1 is archived already; the rest are merged between the existing ids
+        assertEquals(2, archive.archive(Arrays.asList("c", "b1", "a0"), Arrays.asList("rec c", "x", "rec a0"), 2));
+
+        assertEquals(5, archive.size());
+        assertEquals(3, archive.generation()); // never goes back
+        assertEquals("rec a1", resolveOne(archive, "a1"));
+        assertEquals("rec b1 \u00e9", resolveOne(archive, "b1"));
+        assertEquals("rec a0", resolveOne(archive, "a0"));
+        assertEquals("rec c", resolveOne(archive, "c"));
+        assertTrue(archive.contains("b2"));
+        assertFalse(archive.contains("b"));
+        // records stay in archive order; a batch is appended in id order
+        assertEquals(Arrays.asList("rec a1", "rec b1 \u00e9", "rec b2", "rec a0", "rec c"), records(archive));
+    }
+
+    @Test
+    void prefixesResolveLikeTheIdIndex() throws IOException {
+        ItemArchive archive = archive();
+        archive.archive(Arrays.asList("3f2a-1", "3f2a-2", "3f2b-1", "3f2a"),
+                Arrays.asList("one", "two", "three", "short"), 1);
+
+        assertEquals("short", resolveOne(archive, "3f2a")); // exact id wins
+        assertEquals("three", resolveOne(archive, "3f2b"));
+        long[] ambiguous = archive.resolve("3f2a-", 5);
+        assertEquals(2, ambiguous.length);
+        assertEquals("one", archive.read(ambiguous[0]));
+        assertEquals("two", archive.read(ambiguous[1]));
+        assertEquals(1, archive.resolve("3f2", 1).length);
+        assertEquals(4, archive.resolve("3f2", 10).length);
+        assertArrayEquals(new long[0], archive.resolve("3f3", 5));
+        assertArrayEquals(new long[0], archive.resolve("", 5));
+        assertThrows(IOException.class, () -> archive.read(-1));
+    }
+
+    @Test
+    void reopenedArchiveCutsRecordsNoIndexCovers() throws IOException {
+        ItemArchive archive = archive();
+        archive.archive(Arrays.asList("a", "b"), Arrays.asList("rec a", "rec b"), 4);
+        archive.close();
+        // an archive() that wrote its records but never swapped in its index
+        Files.write(dir.resolve("items.seg"), "rec c\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        ItemArchive reopened = archive();
+        assertEquals(2, reopened.size());
+        assertEquals(4, reopened.generation());
+        assertEquals(Arrays.asList("rec a", "rec b"), records(reopened));
+        assertEquals(1, reopened.archive(Collections.singletonList("c"), Collections.singletonList("rec c2"), 5));
+        assertEquals(Arrays.asList("rec a", "rec b", "rec c2"), records(reopened));
+        assertEquals("rec c2", resolveOne(reopened, "c"));
+    }
+
+    @Test
+    void archiveNeedsAnOpenedArchive() {
+        ItemArchive archive = new ItemArchive(dir.resolve("items.seg"), dir.resolve("items.idx"));
+        assertThrows(IOException.class,
+                () -> archive.archive(Collections.singletonList("a"), Collections.singletonList("rec a"), 1));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.lostandfound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class JsonTest {
+    @Test
+    void parsesAFlatObjectKeepingValuesAsText() {
+        Map<String, String> f = Json.parseFlatObject(
+                " { \"name\" : \"Wallet\", \"estimatedValue\": 500.5, \"perishable\":false, \"note\": null,"
+                        + " \"delta\": -3e2 } ");
+
+        assertEquals(Arrays.asList("name", "estimatedValue", "perishable", "note", "delta"),
+                Arrays.asList(f.keySet().toArray()));
+        assertEquals("Wallet", f.get("name"));
+        assertEquals("500.5", f.get("estimatedValue"));
+        assertEquals("false", f.get("perishable"));
+        assertTrue(f.containsKey("note"));
+        assertNull(f.get("note"));
+        assertEquals("-3e2", f.get("delta"));
+        assertTrue(Json.parseFlatObject("{}").isEmpty());
+    }
+
+    @Test
+    void unescapesStrings() {
+        Map<String, String> f = Json.parseFlatObject(
+                "{\"d\":\"line1\\nline2\\t\\\"quoted\\\" back\\\\slash \\/ \\u00e9\\u20ac\"}");
+        assertEquals("line1\nline2\t\"quoted\" back\\slash / \u00e9\u20ac", f.get("d"));
+    }
+
+    @Test
+    void appendStringRoundTripsThroughTheParser() {
+        String value = "a \"b\" \\ c\nd\re\tf \u0001 \u00e9";
+        String json = Json.appendString(new StringBuilder("{\"v\":"), value).append('}').toString();
+
+        assertEquals("{\"v\":\"a \\\"b\\\" \\\\ c\\nd\\re\\tf \\u0001 \u00e9\"}", json);
+        assertEquals(value, Json.parseFlatObject(json).get("v"));
+        assertEquals("null", Json.appendString(new StringBuilder(), null).toString());
+    }
+
+    @Test
+    void rejectsAnythingButAFlatObject() {
+        for (String bad : new String[] { "", "[]", "{\"a\":{\"b\":1}}", "{\"a\":[1]}", "{\"a\":1} x", "{\"a\":1",
+                "{\"a\" 1}", "{a:1}", "{\"a\":\"open}", "{\"a\":yes}", "{\"a\":\"\\u12\"}", "{\"a\":}" })
+            assertThrows(IllegalArgumentException.class, () -> Json.parseFlatObject(bad), bad);
+    }
+}
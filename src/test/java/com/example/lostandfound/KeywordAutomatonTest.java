@@ -0,0 +1,75 @@
+package com.example.lostandfound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class KeywordAutomatonTest {
+    private static final List<List<String>> VOCABULARIES = Arrays.asList(
+            Arrays.asList("bag", "handbag", "wallet", "card", "creditcard", "id"),
+            Arrays.asList("cup", "cupcake", "tea", "steak"),
+            Arrays.asList("a", "ab", "bab"),
+            Arrays.asList("key", "keys", "keychain", "monkey"));
+
+    // What the qualification rules did before the automaton: lowercase, then contains
+    private static int containsLoop(String... parts) {
+        String text = String.join(" ", parts).toLowerCase();
+        int bits = 0;
+        for (int v = 0; v < VOCABULARIES.size(); v++) {
+            for (String w : VOCABULARIES.get(v)) {
+                if (text.contains(w))
+                    bits |= 1 << v;
+            }
+        }
+        return bits;
+    }
+
+    @Test
+    void matchesLikeTheContainsLoop() {
+        KeywordAutomaton automaton = new KeywordAutomaton(VOCABULARIES);
+        String[][] cases = {
+                { "Black Leather WALLET", "with ID inside" },
+                { "steaK", "" },
+                { "", "" },
+                { "monke", "y" }, // the join adds a space, so no "monkey"
+                { "te", "a" },
+                { "\u00c9t\u00e9 handbag", "caf\u00e9" },
+                { "credit", "card" },
+                { "xyz", "qrs" },
+        };
+        for (String[] c : cases)
+            assertEquals(containsLoop(c), automaton.match(c), String.join("|", c));
+    }
+
+    @Test
+    void matchesLikeTheContainsLoopOnRandomText() {
+        KeywordAutomaton automaton = new KeywordAutomaton(VOCABULARIES);
+        Random random = new Random(42);
+        String alphabet = "abcdeiklmnoprstuwyKEYBAG \u00e9";
+        for (int n = 0; n < 5000; n++) {
+            String[] parts = new String[1 + random.nextInt(3)];
+            for (int p = 0; p < parts.length; p++) {
+                StringBuilder sb = new StringBuilder();
+                int len = random.nextInt(20);
+                for (int i = 0; i < len; i++)
+                    sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                parts[p] = sb.toString();
+            }
+            assertEquals(containsLoop(parts), automaton.match(parts), String.join("|", parts));
+        }
+    }
+
+    @Test
+    void rejectsNonAsciiKeywordsAndTooManyVocabularies() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new KeywordAutomaton(Collections.singletonList(Collections.singletonList("caf\u00e9"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> new KeywordAutomaton(Collections.nCopies(32, Collections.singletonList("a"))));
+    }
+}
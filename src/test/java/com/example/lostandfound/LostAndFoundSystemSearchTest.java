@@ -0,0 +1,133 @@
+package com.example.lostandfound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+// Indexed search (token index candidates, Query scoring) against a brute-force Jaccard
+// scan of the same items
+class LostAndFoundSystemSearchTest {
+    private static final String[][] CORPUS = {
+            // name, description, status
+            { "Black wallet", "Leather wallet with ID and cards", "ACTIVE" },
+            { "Brown wallet", "Small leather coin purse", "ACTIVE" },
+            { "Wallets", "Two black wallets found together", "ACTIVE" },
+            { "Phone", "Black smartphone with cracked screen", "ACTIVE" },
+            { "Cellphone", "Blue phone in a leather case", "ACTIVE" },
+            { "Laptop", "Silver laptop with stickers", "ACTIVE" },
+            { "Laptop bag", "Black laptop bag with charger", "ACTIVE" },
+            { "Keys", "Set of keys on a blue keychain", "ACTIVE" },
+            { "Car keys", "Car key with black remote", "ACTIVE" },
+            { "Umbrella", "Blue folding umbrella", "ACTIVE" },
+            { "Payong", "Black umbrella with wooden handle", "ACTIVE" },
+            { "Backpack", "Blue backpack with laptop inside", "ACTIVE" },
+            { "Black wallet", "Leather wallet with ID and cards", "REMOVED" },
+            { "Charger", "White phone charger and cable", "REMOVED" },
+            { "Notebook", "Spiral notebook with math notes", "ACTIVE" },
+    };
+    private static final String[][] QUERIES = {
+            { "wallet", "black leather" },
+            { "Black wallets", "with cards" },
+            { "phone", "" },
+            { "cellphone", "black screen cracked" },
+            { "laptop", "black bag" },
+            { "keys", "blue" },
+            { "umbrella", "black" },
+            { "payong", "blue folding" },
+            { "backpack", "laptop" },
+            { "charger", "phone" },
+            { "notebook", "notes math spiral" },
+            { "the", "of a" },
+    };
+    private static final double THRESHOLD = 0.25;
+
+    private static final LostAndFoundSystem system = new LostAndFoundSystem();
+    private static final List<LostAndFoundSystem.Item> items = new ArrayList<>();
+    private static final Map<String, LostAndFoundSystem.Item> byId = new HashMap<>();
+
+    @BeforeAll
+    static void loadCorpus() {
+        for (String[] c : CORPUS) {
+            LostAndFoundSystem.Item it = new LostAndFoundSystem.Item(UUID.randomUUID().toString(), c[0], c[1],
+                    "Others", LocalDate.of(2024, 5, 1), "Library", "juan@example.com", 100, false, c[2],
+                    LocalDateTime.of(2024, 5, 1, 9, 0));
+            items.add(it);
+            byId.put(it.id, it);
+        }
+        LostAndFoundSystem.loadItems(items);
+        system.setRanker(LostAndFoundSystem.Ranker.JACCARD);
+        system.setSearchThreshold(THRESHOLD);
+    }
+
+    // Every ACTIVE item scored against the query, best first, earlier item on ties
+    private static List<LostAndFoundSystem.SearchResult> bruteForce(String name, String description) {
+        int[] query = LostAndFoundSystem.queryTokenIds(name + " " + description + " ");
+        List<LostAndFoundSystem.SearchResult> matches = new ArrayList<>();
+        for (LostAndFoundSystem.Item it : items) {
+            double score = LostAndFoundSystem.jaccard(query, it.getTokenIds());
+            if (it.status.equals("ACTIVE") && score >= THRESHOLD)
+                matches.add(new LostAndFoundSystem.SearchResult(it.id, score, new ArrayList<>()));
+        }
+        matches.sort(Comparator.comparingDouble(LostAndFoundSystem.SearchResult::getScore).reversed());
+        return matches;
+    }
+
+    // Indexed search restricted to this corpus (other tests may share the store)
+    private static List<LostAndFoundSystem.SearchResult> indexed(String name, String description) {
+        List<LostAndFoundSystem.SearchResult> matches = new ArrayList<>();
+        for (LostAndFoundSystem.SearchResult r : system.searchLostItems(name, description, "", 1000, 0)) {
+            if (byId.containsKey(r.getItemId()))
+                matches.add(r);
+        }
+        return matches;
+    }
+
+    @Test
+    void indexedSearchFindsExactlyTheBruteForceMatches() {
+        int matched = 0;
+        for (String[] q : QUERIES) {
+            String label = q[0] + " / " + q[1];
+            List<LostAndFoundSystem.SearchResult> expected = bruteForce(q[0], q[1]);
+            List<LostAndFoundSystem.SearchResult> actual = indexed(q[0], q[1]);
+            assertEquals(expected.size(), actual.size(), label);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getItemId(), actual.get(i).getItemId(), label);
+                assertEquals(expected.get(i).getScore(), actual.get(i).getScore(), 1e-12, label);
+            }
+            matched += expected.size();
+        }
+        assertFalse(matched == 0, "the corpus should produce matches");
+    }
+
+    @Test
+    void removedItemsAreNeverMatched() {
+        for (String[] q : QUERIES) {
+            for (LostAndFoundSystem.SearchResult r : indexed(q[0], q[1]))
+                assertEquals("ACTIVE", byId.get(r.getItemId()).status);
+        }
+    }
+
+    @Test
+    void pagesAreSlicesOfTheFullRanking() {
+        List<LostAndFoundSystem.SearchResult> all = system.searchLostItems("black", "wallet leather", "", 1000, 0);
+        for (int offset = 0; offset <= all.size(); offset++) {
+            List<LostAndFoundSystem.SearchResult> page = system.searchLostItems("black", "wallet leather", "", 2,
+                    offset);
+            List<LostAndFoundSystem.SearchResult> slice = all.subList(offset, Math.min(all.size(), offset + 2));
+            assertEquals(slice.size(), page.size());
+            for (int i = 0; i < slice.size(); i++)
+                assertEquals(slice.get(i).getItemId(), page.get(i).getItemId());
+        }
+    }
+}
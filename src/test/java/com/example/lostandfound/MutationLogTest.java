@@ -0,0 +1,130 @@
+package com.example.lostandfound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MutationLogTest {
+    @TempDir
+    Path dir;
+
+    private final AtomicInteger snapshots = new AtomicInteger();
+    private boolean snapshotWrites = true;
+
+    private MutationLog<Integer> log() {
+        return new MutationLog<>(dir.resolve("items.wal"), snapshots::incrementAndGet, s -> snapshotWrites, 1000,
+                3600);
+    }
+
+    private static List<String> replay(MutationLog<Integer> log) {
+        List<String> records = new ArrayList<>();
+        log.replay(records::add);
+        return records;
+    }
+
+    @Test
+    void replaysAppendedRecordsInOrder() {
+        MutationLog<Integer> log = log();
+        log.append("ADD||a");
+        log.appendAll(Arrays.asList("ADD||b", "STATUS||a||REMOVED"));
+        log.appendAll(Collections.emptyList());
+
+        assertEquals(Arrays.asList("ADD||a", "ADD||b", "STATUS||a||REMOVED"), replay(log));
+        log.close();
+    }
+
+    @Test
+    void tornStatusesRecordIsSkippedAsAWhole() throws IOException {
+        MutationLog<Integer> log = log();
+        log.append("ADD||a");
+        log.append("STATUSES||REMOVED||2||a||b");
+        // the last write was cut short: one of its three ids (and the line break) is missing
+        Files.write(dir.resolve("items.wal"), "STATUSES||REMOVED||3||c||d".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        log.replay(record -> {
+            if (record.startsWith(MutationLog.STATUSES + "||"))
+                removed.addAll(LostAndFoundSystem.removedIds(record));
+            else
+                added.add(record);
+        });
+
+        assertEquals(Collections.singletonList("ADD||a"), added);
+        assertEquals(Arrays.asList("a", "b"), removed);
+        log.close();
+    }
+
+    @Test
+    void removedIdsChecksTheCount() {
+        assertEquals(Arrays.asList("x", "y"), LostAndFoundSystem.removedIds("STATUSES||REMOVED||2||x||y"));
+        assertEquals(Collections.emptyList(), LostAndFoundSystem.removedIds("STATUSES||ACTIVE||1||x"));
+        assertThrows(IllegalArgumentException.class,
+                () -> LostAndFoundSystem.removedIds("STATUSES||REMOVED||2||x"));
+        assertThrows(IllegalArgumentException.class,
+                () -> LostAndFoundSystem.removedIds("STATUSES||REMOVED||1||x||y"));
+    }
+
+    @Test
+    void recordsOfAnInterruptedCheckpointAreReplayedFirst() throws IOException {
+        Files.write(dir.resolve("items.wal.old"), Arrays.asList("ADD||old1", "", "ADD||old2"));
+        MutationLog<Integer> log = log();
+        log.append("ADD||new");
+
+        assertEquals(Arrays.asList("ADD||old1", "ADD||old2", "ADD||new"), replay(log));
+        log.close();
+    }
+
+    @Test
+    void checkpointStartsAnEmptyLogOnceTheSnapshotIsWritten() {
+        MutationLog<Integer> log = log();
+        log.appendAll(Arrays.asList("ADD||a", "ADD||b"));
+        log.checkpoint();
+
+        assertEquals(1, snapshots.get());
+        assertTrue(replay(log).isEmpty());
+        assertFalse(Files.exists(dir.resolve("items.wal.old")));
+
+        log.checkpoint(); // nothing new: no snapshot
+        assertEquals(1, snapshots.get());
+        log.append("ADD||c");
+        assertEquals(Collections.singletonList("ADD||c"), replay(log));
+        log.close();
+        assertEquals(2, snapshots.get());
+    }
+
+    @Test
+    void failedSnapshotKeepsTheRotatedRecords() {
+        MutationLog<Integer> log = log();
+        log.append("ADD||a");
+        snapshotWrites = false;
+        log.checkpoint();
+        log.append("ADD||b");
+
+        assertTrue(Files.exists(dir.resolve("items.wal.old")));
+        assertEquals(Arrays.asList("ADD||a", "ADD||b"), replay(log));
+
+        // the next checkpoint folds both into its snapshot
+        snapshotWrites = true;
+        log.checkpoint();
+        assertFalse(Files.exists(dir.resolve("items.wal.old")));
+        assertTrue(replay(log).isEmpty());
+        log.close();
+    }
+}
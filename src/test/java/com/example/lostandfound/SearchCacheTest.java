@@ -0,0 +1,93 @@
+package com.example.lostandfound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class SearchCacheTest {
+    private final AtomicInteger computed = new AtomicInteger();
+
+    private Supplier<String> compute(String result) {
+        return () -> {
+            computed.incrementAndGet();
+            return result;
+        };
+    }
+
+    private static SearchCache.Key key(int... tokens) {
+        return new SearchCache.Key(tokens, "jaccard|", 0.25, false);
+    }
+
+    @Test
+    void repeatedQueriesAreServedFromTheCache() {
+        SearchCache<String> cache = new SearchCache<>(16, 1000, String::length);
+        assertEquals("r1", cache.get(key(1, 2), compute("r1")));
+        assertEquals("r1", cache.get(key(1, 2), compute("r2")));
+
+        assertEquals(1, computed.get());
+        assertEquals(1L, cache.stats().get("hits"));
+        assertEquals(1L, cache.stats().get("misses"));
+    }
+
+    @Test
+    void settingsArePartOfTheKey() {
+        SearchCache<String> cache = new SearchCache<>(16, 1000, String::length);
+        cache.get(key(1, 2), compute("r"));
+        cache.get(new SearchCache.Key(new int[] { 1, 2 }, "jaccard|", 0.5, false), compute("r"));
+        cache.get(new SearchCache.Key(new int[] { 1, 2 }, "jaccard|", 0.25, true), compute("r"));
+        cache.get(new SearchCache.Key(new int[] { 1, 2 }, "bm25|", 0.25, false), compute("r"));
+
+        assertEquals(4, computed.get());
+    }
+
+    @Test
+    void changingAQueryTokenInvalidatesOnlyQueriesSharingIt() {
+        SearchCache<String> cache = new SearchCache<>(16, 1000, String::length);
+        cache.get(key(1, 2), compute("a"));
+        cache.get(key(3), compute("b"));
+        cache.get(key(-1, 2), compute("c")); // unknown word placeholder
+
+        cache.tokensChanged(new int[] { 2, 5000 }); // also grows the version table
+
+        assertEquals("a2", cache.get(key(1, 2), compute("a2")));
+        assertEquals("b", cache.get(key(3), compute("b2")));
+        assertEquals("c2", cache.get(key(-1, 2), compute("c2")));
+        assertEquals(5, computed.get());
+        assertEquals("a2", cache.get(key(1, 2), compute("a3")));
+    }
+
+    @Test
+    void invalidateAllMakesEveryEntryStale() {
+        SearchCache<String> cache = new SearchCache<>(16, 1000, String::length);
+        cache.get(key(1), compute("a"));
+        cache.get(key(2), compute("b"));
+        cache.invalidateAll();
+
+        assertEquals("a2", cache.get(key(1), compute("a2")));
+        assertEquals("b2", cache.get(key(2), compute("b2")));
+        assertEquals(4, computed.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesByCountAndWeight() {
+        SearchCache<String> cache = new SearchCache<>(2, 10, String::length);
+        cache.get(key(1), compute("aaa"));
+        cache.get(key(2), compute("bbb"));
+        cache.get(key(1), compute("x")); // hit: 1 is now the most recent
+        cache.get(key(3), compute("ccc")); // over the count: evicts 2
+
+        assertEquals("aaa", cache.get(key(1), compute("x")));
+        assertEquals("bbb2", cache.get(key(2), compute("bbb2"))); // evicts 3 (1 was used later)
+        assertEquals(2L, cache.stats().get("entries"));
+
+        cache.get(key(4), compute("dddddddd")); // over the weight: evicts the rest
+        assertEquals(1L, cache.stats().get("entries"));
+        assertEquals(8L, cache.stats().get("weight"));
+
+        assertEquals("too long!!!", cache.get(key(5), compute("too long!!!"))); // heavier than the cache
+        assertEquals(1L, cache.stats().get("entries"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.lostandfound;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+
+class SortIndexTest {
+    // Ordinals get keys from ordinalKeys, archived references (negative) from archivedKeys
+    private static IntFunction<Integer> key(List<Integer> ordinalKeys, Map<Integer, Integer> archivedKeys) {
+        return r -> r < 0 ? archivedKeys.get(r) : ordinalKeys.get(r);
+    }
+
+    private static int[] bruteForce(Comparator<Integer> order, List<Integer> ordinalKeys,
+            Map<Integer, Integer> archivedKeys, int size) {
+        IntFunction<Integer> key = key(ordinalKeys, archivedKeys);
+        List<Integer> rows = new ArrayList<>(archivedKeys.keySet());
+        for (int o = 0; o < size; o++)
+            rows.add(o);
+        rows.sort(Comparator.<Integer, Integer>comparing(key::apply, order).thenComparing(Comparator.naturalOrder()));
+        return rows.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] rows(SortIndex.Rows rows) {
+        return Arrays.copyOf(rows.array, rows.length);
+    }
+
+    @Test
+    void incrementalPlacementMatchesAFullSort() {
+        for (Comparator<Integer> order : Arrays.asList(Comparator.<Integer>naturalOrder(),
+                Comparator.<Integer>reverseOrder())) {
+            Random random = new Random(7);
+            List<Integer> ordinalKeys = new ArrayList<>();
+            Map<Integer, Integer> archivedKeys = new HashMap<>();
+            for (int k = 0; k < 30; k++)
+                archivedKeys.put(Integer.MIN_VALUE + k, random.nextInt(20));
+            for (int o = 0; o < 50; o++)
+                ordinalKeys.add(random.nextInt(20));
+            IntFunction<Integer> key = key(ordinalKeys, archivedKeys);
+
+            int[] initial = new int[archivedKeys.size() + 50];
+            int n = 0;
+            for (int r : archivedKeys.keySet())
+                initial[n++] = r;
+            for (int o = 0; o < 50; o++)
+                initial[n++] = o;
+            SortIndex<Integer> index = new SortIndex<>(order, initial, 50, key);
+            assertArrayEquals(bruteForce(order, ordinalKeys, archivedKeys, 50), rows(index.rows(50, key)));
+
+            int size = 50;
+            for (int batch = 0; batch < 20; batch++) {
+                int added = 1 + random.nextInt(10);
+                for (int i = 0; i < added; i++)
+                    ordinalKeys.add(random.nextInt(20));
+                size += added;
+                assertArrayEquals(bruteForce(order, ordinalKeys, archivedKeys, size), rows(index.rows(size, key)));
+            }
+        }
+    }
+
+    @Test
+    void appendedRowsLeavePublishedViewsUnchanged() {
+        List<Integer> ordinalKeys = new ArrayList<>(Arrays.asList(1, 2, 3));
+        Map<Integer, Integer> archivedKeys = new HashMap<>();
+        IntFunction<Integer> key = key(ordinalKeys, archivedKeys);
+        SortIndex<Integer> index = new SortIndex<>(Comparator.naturalOrder(), new int[] { 2, 0, 1 }, 3, key);
+
+        SortIndex.Rows first = index.rows(3, key);
+        ordinalKeys.add(4); // sorts last: written in place past the published length
+        SortIndex.Rows second = index.rows(4, key);
+        ordinalKeys.add(0); // sorts first: copies the order
+        SortIndex.Rows third = index.rows(5, key);
+
+        assertArrayEquals(new int[] { 0, 1, 2 }, rows(first));
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, rows(second));
+        assertArrayEquals(new int[] { 4, 0, 1, 2, 3 }, rows(third));
+        assertEquals(5, index.rows(3, key).length); // a smaller size never shrinks the order
+    }
+
+    @Test
+    void equalKeysAreOrderedByRow() {
+        List<Integer> ordinalKeys = new ArrayList<>(Arrays.asList(5, 5, 5));
+        Map<Integer, Integer> archivedKeys = new HashMap<>();
+        archivedKeys.put(Integer.MIN_VALUE, 5);
+        IntFunction<Integer> key = key(ordinalKeys, archivedKeys);
+        int[] initial = { 1, Integer.MIN_VALUE, 0 };
+        SortIndex<Integer> index = new SortIndex<>(Comparator.reverseOrder(), initial, 2, key);
+
+        assertArrayEquals(new int[] { Integer.MIN_VALUE, 0, 1, 2 }, rows(index.rows(3, key)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.lostandfound;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TokenDictionaryTest {
+    @Test
+    void internAssignsDenseIdsOnce() {
+        TokenDictionary dictionary = new TokenDictionary();
+        assertEquals(0, dictionary.intern("wallet"));
+        assertEquals(1, dictionary.intern("black"));
+        assertEquals(0, dictionary.intern("wallet"));
+
+        assertEquals(2, dictionary.size());
+        assertEquals("black", dictionary.token(1));
+        assertEquals(1, dictionary.lookup("black"));
+        assertEquals(-1, dictionary.lookup("phone"));
+    }
+
+    @Test
+    void internAllReturnsSortedIds() {
+        TokenDictionary dictionary = new TokenDictionary();
+        dictionary.intern("a");
+        dictionary.intern("b");
+
+        assertArrayEquals(new int[] { 0, 1, 2 }, dictionary.internAll(Arrays.asList("c", "b", "a")));
+    }
+
+    @Test
+    void lookupAllGivesUnknownTokensDistinctNegativeIds() {
+        TokenDictionary dictionary = new TokenDictionary();
+        dictionary.intern("wallet");
+        dictionary.intern("black");
+
+        int[] ids = dictionary.lookupAll(Arrays.asList("black", "leather", "wallet", "strap"));
+        assertArrayEquals(new int[] { -2, -1, 0, 1 }, ids);
+        assertEquals(2, dictionary.size()); // queries never grow the dictionary
+    }
+
+    @Test
+    void tokensSurviveGrowth() {
+        TokenDictionary dictionary = new TokenDictionary();
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+            words.add("w" + i);
+        for (String w : words)
+            dictionary.intern(w);
+
+        assertEquals(1000, dictionary.size());
+        for (int i = 0; i < words.size(); i++) {
+            assertEquals(i, dictionary.lookup(words.get(i)));
+            assertEquals(words.get(i), dictionary.token(i));
+        }
+    }
+
+    @Test
+    void concurrentInternsAgreeOnIds() throws InterruptedException {
+        TokenDictionary dictionary = new TokenDictionary();
+        int[][] seen = new int[4][500];
+        Thread[] threads = new Thread[seen.length];
+        for (int t = 0; t < threads.length; t++) {
+            int[] ids = seen[t];
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < ids.length; i++)
+                    ids[i] = dictionary.intern("t" + i);
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads)
+            t.join();
+
+        assertEquals(500, dictionary.size());
+        for (int[] ids : seen) {
+            assertArrayEquals(seen[0], ids);
+            for (int i = 0; i < ids.length; i++)
+                assertEquals("t" + i, dictionary.token(ids[i]));
+        }
+    }
+}